@@ -0,0 +1,50 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the iterator of the stream of blocks read from a `tcp:Client`.
+class BlockStream {
+
+    private final Client socketClient;
+
+    isolated function init(Client socketClient) {
+        self.socketClient = socketClient;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|Error? {
+        byte[]|Error? block = externReadBlock(self.socketClient);
+        if (block is byte[]) {
+            return {value: block};
+        }
+        return block;
+    }
+}
+
+isolated function externReadBlock(Client socketClient) returns byte[]|Error? = @java:Method {
+    name: "externReadBlock",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
+
+isolated function externWriteBlock(handle blockWriter, byte[] block) returns Error? = @java:Method {
+    name: "externWriteBlock",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
+
+isolated function externFinishBlockWrites(handle blockWriter) returns Error? = @java:Method {
+    name: "externFinishBlockWrites",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
@@ -0,0 +1,83 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the allocators of the buffers that hold the bytes read from and written to a connection.
+#
+# + POOLED_DIRECT - Allocates off-heap buffers from a pool. This suits bulk transfers as the bytes need not be
+#                   copied when they are handed to the operating system
+# + POOLED_HEAP - Allocates heap buffers from a pool. The buffers of the socket reads are always off-heap
+# + UNPOOLED - Allocates a new buffer for each read or write, off-heap where the platform allows
+public enum Allocator {
+    POOLED_DIRECT,
+    POOLED_HEAP,
+    UNPOOLED
+}
+
+# Represents the sizing of the buffers used to read from a connection. The size of the next buffer adapts to the
+# number of bytes received by the previous reads within the given bounds.
+#
+# + minimum - The minimum size of a read buffer in bytes
+# + initial - The size of the first read buffer in bytes
+# + maximum - The maximum size of a read buffer in bytes
+# + maxMessagesPerRead - The maximum number of reads performed on a connection per event loop iteration
+public type ReceiveBufferConfiguration record {|
+    int minimum = 64;
+    int initial = 2048;
+    int maximum = 65536;
+    int maxMessagesPerRead = 16;
+|};
+
+# Represents the behaviour of a write which exceeds the limit of the pending writes of a connection.
+#
+# + WAIT - The write waits until the pending writes drop to the resume limit
+# + FAIL - The write fails with a `tcp:WriteQueueFullError`
+public enum WriteOverflowPolicy {
+    WAIT,
+    FAIL
+}
+
+# Represents the limits of the writes which are pending on a connection.
+#
+# + maxPendingWriteBytes - The maximum number of bytes which are accepted for writing but not yet written to the
+#                          socket. A single write larger than this is accepted once no other write is pending
+# + resumeWriteBytes - The number of pending bytes at which the waiting writes are accepted again. If this is not
+#                      set, half of the `maxPendingWriteBytes` is used
+# + overflowPolicy - The behaviour of the writes which exceed the limit
+public type WriteQueueConfiguration record {|
+    int maxPendingWriteBytes;
+    int resumeWriteBytes?;
+    WriteOverflowPolicy overflowPolicy = WAIT;
+|};
+
+# Represents the limits of the chunks passed to a single `onBytesBatch` invocation. The chunks read from a connection
+# within one read cycle are passed together unless a limit is reached first.
+#
+# + maxChunks - The maximum number of chunks in a batch
+# + maxBytes - The maximum number of bytes in a batch. A single chunk larger than this is passed on its own
+public type BatchConfiguration record {|
+    int maxChunks = 64;
+    int maxBytes = 262144;
+|};
+
+# Represents the limits of the data read ahead from a connection. The client stops reading from the connection once
+# the buffered data reaches the high water mark and resumes once it drops to the low water mark.
+#
+# + highWaterMark - The number of buffered bytes at which the client stops reading
+# + lowWaterMark - The number of buffered bytes at which the client resumes reading
+public type PrefetchConfiguration record {|
+    int highWaterMark = 262144;
+    int lowWaterMark = 65536;
+|};
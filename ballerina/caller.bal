@@ -18,9 +18,9 @@ import ballerina/jballerina.java;
 
 # Represents caller object in tcp service remote methods.
 # 
-# + remoteHost - The hostname or the IP address of the remote host
+# + remoteHost - The IP address of the remote host
 # + remotePort - The port number of the remote host
-# + localHost - The bound hostname
+# + localHost - The IP address to which the socket is bound
 # + localPort - The port number to which the socket is bound
 public client class Caller {
 
@@ -41,6 +41,43 @@ public client class Caller {
       'class: "io.ballerina.stdlib.tcp.nativelistener.Caller"
   } external;
 
+  # Sends the given chunks of data to the same remote host with a single flush.
+  # 
+  # + chunks - The chunks of data need to be sent to the remote host
+  # + return - `()` or else a `tcp:Error` if the given data cannot be sent
+  isolated remote function writeBytesBatch(byte[][] chunks) returns Error? = @java:Method {
+      name: "externWriteBytesBatch",
+      'class: "io.ballerina.stdlib.tcp.nativelistener.Caller"
+  } external;
+
+  # Sends the content of the given file to the same remote host. The content is transferred by the operating
+  # system without being read into the memory, unless the connection is secured.
+  # 
+  # + path - The path of the file
+  # + offset - The position of the file from which the content is sent
+  # + length - The number of bytes to be sent. If this is not set, the content up to the end of the file is sent
+  # + return - `()` or else a `tcp:Error` if the file cannot be sent
+  isolated remote function writeFile(string path, int offset = 0, int? length = ()) returns Error? = @java:Method {
+      name: "externWriteFile",
+      'class: "io.ballerina.stdlib.tcp.nativelistener.Caller"
+  } external;
+
+  # Returns the number of bytes which are accepted for writing but not yet written to the socket.
+  # 
+  # + return - The number of pending write bytes
+  public isolated function getPendingWriteBytes() returns int = @java:Method {
+      name: "externGetPendingWriteBytes",
+      'class: "io.ballerina.stdlib.tcp.nativelistener.Caller"
+  } external;
+
+  # Looks up the hostname of the remote host. The lookup is done on a dedicated thread as it may take a long time.
+  # 
+  # + return - The hostname of the remote host, or else its IP address if the lookup fails
+  public isolated function resolveRemoteHostName() returns string = @java:Method {
+      name: "externResolveRemoteHostName",
+      'class: "io.ballerina.stdlib.tcp.nativelistener.Caller"
+  } external;
+
   # Close the remote connection.
   # 
   # + return - `()` or else a `tcp:Error` if the connection cannot be properly
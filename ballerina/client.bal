@@ -28,7 +28,8 @@ public isolated client class Client {
     # + remotePort - The port number of the remote host
     # + config - Connection-oriented client-related configurations
     public isolated function init(string remoteHost, int remotePort, *ClientConfiguration config) returns Error? {
-        return self.externInit(remoteHost, remotePort, config);
+        check self.externInit(remoteHost, remotePort, config);
+        return self.externStartPrefetch();
     }
 
     # Sends the given data to the connected remote host.
@@ -43,21 +44,108 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
     } external;
 
-    // remote function writeBlocksFromStream(stream<byte[]> dataStream) returns Error? { }
+    # Sends the given chunks of data to the connected remote host with a single flush.
+    # ```ballerina
+    # tcp:Error? result = socketClient->writeBytesBatch(["msg1".toBytes(), "msg2".toBytes()]);
+    # ```
+    #
+    # + chunks - The chunks of data that need to be sent to the connected remote host
+    # + return - `()` or else a `tcp:Error` if the given data cannot be sent
+    remote function writeBytesBatch(byte[][] chunks) returns Error? = @java:Method {
+        name: "externWriteBytesBatch",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    # Sends the content of the given file to the connected remote host. The content is transferred by the
+    # operating system without being read into the memory, unless the connection is secured.
+    # ```ballerina
+    # tcp:Error? result = socketClient->writeFile("/tmp/data.bin");
+    # ```
+    #
+    # + path - The path of the file
+    # + offset - The position of the file from which the content is sent
+    # + length - The number of bytes to be sent. If this is not set, the content up to the end of the file is sent
+    # + return - `()` or else a `tcp:Error` if the file cannot be sent
+    remote function writeFile(string path, int offset = 0, int? length = ()) returns Error? = @java:Method {
+        name: "externWriteFile",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    # Returns the number of bytes which are accepted for writing but not yet written to the socket.
+    #
+    # + return - The number of pending write bytes
+    public isolated function getPendingWriteBytes() returns int = @java:Method {
+        name: "externGetPendingWriteBytes",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    # Sends the blocks of the given stream to the connected remote host. The blocks are written without waiting
+    # for each other and the next block is pulled from the stream only while the unwritten data fits in the
+    # write buffer of the connection. Each wait for the unwritten data is bounded by the `writeTimeout` of the
+    # client. If the stream or a block fails, the blocks in flight are either written or dropped before the error
+    # is returned.
+    # ```ballerina
+    # tcp:Error? result = socketClient->writeBlocksFromStream(blocks);
+    # ```
+    #
+    # + dataStream - The stream of the blocks that need to be sent to the connected remote host
+    # + return - `()` once all the blocks are sent or else a `tcp:Error` if the blocks cannot be sent
+    remote function writeBlocksFromStream(stream<byte[], Error?> dataStream) returns Error? {
+        handle blockWriter = check self.externCreateBlockWriter();
+        record {| byte[] value; |}|Error? block = dataStream.next();
+        while (block is record {| byte[] value; |}) {
+            // A failed block fails the writer, which returns the error once the blocks in flight are done
+            if (externWriteBlock(blockWriter, block.value) is Error) {
+                break;
+            }
+            block = dataStream.next();
+        }
+        Error? result = externFinishBlockWrites(blockWriter);
+        return block is Error ? block : result;
+    }
 
     # Reads data only from the connected remote host. 
     # ```ballerina
     # (readonly & byte[])|tcp:Error result = socketClient->readBytes();
     # ```
     #
+    # + length - The exact number of bytes to be read. If this is set, the data is read ahead from the first such
+    #            call onwards and the data after the given length is kept for the later reads. If this is not set,
+    #            the data received by a single read is returned
     # + return - The `readonly & byte[]` or else a `tcp:Error` if the data
     #            cannot be read from the remote host
-    remote function readBytes() returns (readonly & byte[])|Error = @java:Method {
+    remote function readBytes(int? length = ()) returns (readonly & byte[])|Error = @java:Method {
         name: "externReadBytes",
         'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
     } external;
 
-    // remote function readBlocksAsStream() returns stream<byte[]>|Error { }
+    # Reads the data from the connected remote host up to the given delimiter. The delimiter is consumed but not
+    # returned and the data after it is kept for the later reads, hence the data is read ahead from the first call
+    # onwards. The data before the delimiter must fit within the prefetch high water mark of the client.
+    # ```ballerina
+    # (readonly & byte[])|tcp:Error line = socketClient->readUntil("\r\n".toBytes());
+    # ```
+    #
+    # + delimiter - The bytes which terminate the data
+    # + return - The `readonly & byte[]` before the delimiter or else a `tcp:Error` if the delimiter cannot be read
+    #            from the remote host
+    remote function readUntil(byte[] delimiter) returns (readonly & byte[])|Error = @java:Method {
+        name: "externReadUntil",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    # Reads the data from the connected remote host as a stream of blocks. Once the stream is created, the data is
+    # read ahead into a bounded buffer and the later `readBytes` calls are served from the same buffer.
+    # ```ballerina
+    # stream<byte[], tcp:Error?> blocks = check socketClient->readBlocksAsStream();
+    # ```
+    #
+    # + return - The stream of the blocks, which ends when the remote host closes the connection, or else a
+    #            `tcp:Error` if the connection is already closed
+    remote function readBlocksAsStream() returns stream<byte[], Error?>|Error {
+        check self.externReadBlocksAsStream();
+        return new stream<byte[], Error?>(new BlockStream(self));
+    }
 
     # Frees up the occupied socket.
     # ```ballerina
@@ -70,6 +158,21 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
     } external;
 
+    isolated function externStartPrefetch() returns Error? = @java:Method {
+        name: "externStartPrefetch",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    isolated function externCreateBlockWriter() returns handle|Error = @java:Method {
+        name: "externCreateBlockWriter",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    isolated function externReadBlocksAsStream() returns Error? = @java:Method {
+        name: "externReadBlocksAsStream",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
     isolated function externInit(string remoteHost, int remotePort, ClientConfiguration config)
     returns Error? = @java:Method {
         name: "externInit",
@@ -85,9 +188,29 @@ public isolated client class Client {
 # + writeTimeout - The socket write timeout value to be used in seconds. If this is not set, the default value
 #             of 300 seconds(5 minutes) will be used
 # + secureSocket - The `secureSocket` configuration
+# + transport - The network transport to be used. If this is not set, the native transport of the platform
+#               will be used when available
+# + eventLoop - The event loop configurations. If this is not set, the event loops shared by the module will be used
+# + socketOptions - The socket options of the connection
+# + allocator - The allocator of the connection buffers. If this is not set, the default allocator of the platform
+#               will be used
+# + receiveBuffer - The sizing of the read buffers of the connection
+# + writeQueue - The limits of the pending writes of the connection. If this is not set, the pending writes are
+#                not limited
+# + prefetch - The limits of the data read ahead of the `readBytes` calls. If this is set, the client keeps reading
+#              from the connection once connected and `readBytes` returns the buffered data without waiting
+# + framing - The layout of the frames of the connection. If this is set, `readBytes` returns whole frames
 public type ClientConfiguration record {|
     string localHost?;
     decimal timeout = 300;
     decimal writeTimeout = 300;
     ClientSecureSocket secureSocket?;
+    Transport transport = AUTO;
+    EventLoopConfiguration eventLoop?;
+    ClientSocketOptions socketOptions?;
+    Allocator allocator?;
+    ReceiveBufferConfiguration receiveBuffer?;
+    WriteQueueConfiguration writeQueue?;
+    PrefetchConfiguration prefetch?;
+    LengthFieldFramingConfiguration|DelimiterFramingConfiguration framing?;
 |};
@@ -0,0 +1,59 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the byte orders of the length field of a frame.
+#
+# + BIG_ENDIAN - The most significant byte comes first
+# + LITTLE_ENDIAN - The least significant byte comes first
+public enum ByteOrder {
+    BIG_ENDIAN,
+    LITTLE_ENDIAN
+}
+
+# Represents the layout of the length prefixed frames of a connection. Once configured, the received data is
+# reassembled into whole frames, hence each `readBytes` call and each `onBytes` invocation receives a single frame.
+# If the length field is at the start of the frame, it is removed from the received frames and added to the data of
+# each write. Otherwise the received frames include the header and the written data must be whole frames. The
+# content of the files sent with `writeFile` is written as it is.
+#
+# + maxFrameLength - The maximum length of a frame in bytes. A longer frame results in an error
+# + lengthFieldOffset - The position of the length field in the frame
+# + lengthFieldLength - The size of the length field in bytes, which is one of 1, 2, 3, 4 or 8
+# + lengthAdjustment - The value added to the length field to get the number of bytes after the length field. This
+#                      is `-lengthFieldLength` if the length field counts itself
+# + byteOrder - The byte order of the length field
+public type LengthFieldFramingConfiguration record {|
+    int maxFrameLength = 1048576;
+    int lengthFieldOffset = 0;
+    int lengthFieldLength = 4;
+    int lengthAdjustment = 0;
+    ByteOrder byteOrder = BIG_ENDIAN;
+|};
+
+# Represents the layout of the frames of a connection which are terminated by a delimiter. Once configured, each
+# `readBytes` call and each `onBytes` invocation receives a single frame. The written data is sent as it is, hence
+# it must include the delimiter.
+#
+# + delimiter - The bytes which terminate a frame. A delimiter of `"\n".toBytes()` also matches `"\r\n"`, hence
+#               it splits the lines of text protocols
+# + maxFrameLength - The maximum length of a frame in bytes, excluding the delimiter. A longer frame is dropped
+#                    with an error
+# + stripDelimiter - Whether the delimiter is removed from the received frames
+public type DelimiterFramingConfiguration record {|
+    byte[] delimiter;
+    int maxFrameLength = 1048576;
+    boolean stripDelimiter = true;
+|};
@@ -89,7 +89,45 @@ public isolated class Listener {
 #
 # + localHost - The hostname
 # + secureSocket - The SSL configurations for the listener
+# + transport - The network transport to be used. If this is not set, the native transport of the platform
+#               will be used when available
+# + bossThreads - Number of event loop threads that accept the incoming connections. A single bound port is never
+#                 served by more than one thread unless `acceptors` is set
+# + acceptors - Number of listening sockets bound to the port with `SO_REUSEPORT`, each accepting on its own event
+#               loop so that the kernel spreads the incoming connections across them. Values greater than 1 require
+#               the `EPOLL` transport
+# + eventLoop - The event loop configurations of the accepted connections. If this is not set, the event loops
+#               shared by the module will be used
+# + socketOptions - The socket options of the listening socket and the accepted connections
+# + allocator - The allocator of the buffers of the accepted connections. If this is not set, the default allocator
+#               of the platform will be used
+# + receiveBuffer - The sizing of the read buffers of the accepted connections
+# + writeQueue - The limits of the pending writes of each accepted connection. If this is not set, the pending
+#                writes are not limited
+# + writeTimeout - The write timeout of the callers in seconds. A write which is not written to the socket in time,
+#                  including a write waiting for the write queue, fails. If this is not set, the default value of 300
+#                  seconds(5 minutes) will be used
+# + framing - The layout of the frames of the accepted connections. If this is set, `onBytes` receives whole
+#             frames
+# + maxInFlightOnBytes - Maximum number of `onBytes` or `onBytesBatch` invocations of a connection which run at the
+#                        same time. The reads of the connection are paused until an invocation completes once this is
+#                        reached. The default value of 1 dispatches the data of a connection in the order it is
+#                        received
+# + batch - The limits of the chunks passed to a single `onBytesBatch` invocation. If this is not set, a batch holds
+#           at most 64 chunks and 256 KiB
 public type ListenerConfiguration record {|
    string localHost?;
    ListenerSecureSocket secureSocket?; 
+   Transport transport = AUTO;
+   int bossThreads = 1;
+   int acceptors = 1;
+   EventLoopConfiguration eventLoop?;
+   ListenerSocketOptions socketOptions?;
+   Allocator allocator?;
+   ReceiveBufferConfiguration receiveBuffer?;
+   WriteQueueConfiguration writeQueue?;
+   decimal writeTimeout = 300;
+   LengthFieldFramingConfiguration|DelimiterFramingConfiguration framing?;
+   int maxInFlightOnBytes = 1;
+   BatchConfiguration batch?;
 |};
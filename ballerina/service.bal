@@ -24,5 +24,6 @@ public type ConnectionService service object {
   // ConnectionService can have these optional remote methods
   // remote function onError(readonly & Error err) returns Error?;
   // remote function onBytes(readonly & byte[] data) returns byte[]|Error?;
+  // remote function onBytesBatch(readonly & byte[][] chunks) returns byte[]|Error?;
   // remote function onClose() returns Error?;
 };
@@ -16,3 +16,6 @@
 
 # Represents TCP module related errors.
 public type Error distinct error;
+
+# Represents an error which occurs when a write exceeds the limit of the pending writes of a connection.
+public type WriteQueueFullError distinct Error;
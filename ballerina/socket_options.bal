@@ -0,0 +1,82 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the socket options of a TCP connection. The operating system defaults are used for the options
+# which are not set. The options marked as Linux only require the `EPOLL` transport and are rejected at the
+# initialization otherwise.
+#
+# + noDelay - Enables `TCP_NODELAY`, which disables Nagle's algorithm so that small writes are sent immediately
+# + keepAlive - Enables `SO_KEEPALIVE`, which probes idle connections to detect dead peers
+# + sendBufferSize - The size of the socket send buffer (`SO_SNDBUF`) in bytes
+# + receiveBufferSize - The size of the socket receive buffer (`SO_RCVBUF`) in bytes
+# + linger - The time in seconds (`SO_LINGER`) the socket waits for unsent data to be sent when it is closed
+# + writeBufferWaterMark - The limits of the pending outbound bytes, which decide whether the connection is writable
+# + quickAck - Enables `TCP_QUICKACK`, which sends acknowledgements immediately instead of delaying them (Linux only)
+# + cork - Enables `TCP_CORK`, which holds back partial frames until they are full or the cork is removed
+#          (Linux only)
+# + userTimeout - The time in seconds (`TCP_USER_TIMEOUT`) transmitted data may remain unacknowledged before the
+#                 connection is closed (Linux only)
+# + keepIdle - The idle time in seconds (`TCP_KEEPIDLE`) before the keep-alive probes are sent (Linux only)
+# + keepInterval - The time in seconds (`TCP_KEEPINTVL`) between the keep-alive probes (Linux only)
+# + keepCount - The number of unanswered keep-alive probes (`TCP_KEEPCNT`) before the connection is dropped
+#               (Linux only)
+# + busyPoll - The time in microseconds (`SO_BUSY_POLL`) to busy poll the device queue on reads (Linux only)
+public type SocketOptions record {|
+    boolean noDelay?;
+    boolean keepAlive?;
+    int sendBufferSize?;
+    int receiveBufferSize?;
+    int linger?;
+    WriteBufferWaterMark writeBufferWaterMark?;
+    boolean quickAck?;
+    boolean cork?;
+    decimal userTimeout?;
+    int keepIdle?;
+    int keepInterval?;
+    int keepCount?;
+    int busyPoll?;
+|};
+
+# Represents the socket options of a TCP client connection.
+#
+# + fastOpen - Enables `TCP_FASTOPEN_CONNECT`, which sends the first write along with the `SYN` (Linux only)
+public type ClientSocketOptions record {|
+    *SocketOptions;
+    boolean fastOpen?;
+|};
+
+# Represents the socket options of a TCP listener and its accepted connections.
+#
+# + backlog - The maximum length of the queue of incoming connections (`SO_BACKLOG`)
+# + reuseAddress - Enables `SO_REUSEADDR` on the listening socket
+# + fastOpenQueueLength - Enables `TCP_FASTOPEN` on the listening socket with the given maximum length of the queue
+#                         of pending fast open requests (Linux only)
+public type ListenerSocketOptions record {|
+    *SocketOptions;
+    int backlog?;
+    boolean reuseAddress?;
+    int fastOpenQueueLength?;
+|};
+
+# Represents the limits of the pending outbound bytes of a connection. A connection stops being writable when the
+# pending bytes exceed the `high` mark and becomes writable again once they drop below the `low` mark.
+#
+# + low - The low water mark in bytes
+# + high - The high water mark in bytes
+public type WriteBufferWaterMark record {|
+    int low;
+    int high;
+|};
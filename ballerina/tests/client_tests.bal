@@ -38,6 +38,330 @@ function testClientEcho() returns @tainted error? {
 }
 
 @test:Config {dependsOn: [testClientEcho]}
+function testClientWriteBytesBatch() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    string[] messages = ["Hello ", "Ballerina ", "Echo ", "from ", "batch"];
+    byte[][] chunks = messages.map(message => message.toBytes());
+    check socketClient->writeBytesBatch(chunks);
+
+    string expected = "Hello Ballerina Echo from batch";
+    byte[] receivedData = [];
+    while (receivedData.length() < expected.length()) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), expected, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientWriteBytesBatch]}
+function testClientWriteFile() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    check socketClient->writeFile(certPath, offset = 4, length = 10);
+
+    byte[] receivedData = [];
+    while (receivedData.length() < 10) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), "Attributes", "Found unexpected output");
+
+    Error? result = socketClient->writeFile(certPath, offset = 4, length = 1000000);
+    if (result is ()) {
+        test:assertFail(msg = "Writing beyond the end of the file should result in an error");
+    }
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientWriteFile]}
+function testClientWithWriteQueueLimits() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, writeQueue = {
+        maxPendingWriteBytes: 1024,
+        overflowPolicy: FAIL
+    });
+
+    string msg = "Hello Ballerina Echo with a bounded write queue";
+    check socketClient->writeBytes(msg.toBytes());
+    test:assertEquals(socketClient.getPendingWriteBytes(), 0, "Found unexpected pending write bytes");
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+
+    Client|Error invalidClient = new ("localhost", 3000, writeQueue = {
+        maxPendingWriteBytes: 1024,
+        resumeWriteBytes: 2048
+    });
+    if (invalidClient is Client) {
+        test:assertFail(msg = "Resume limit higher than the maximum pending bytes should result in an error");
+    }
+}
+
+@test:Config {dependsOn: [testClientWithWriteQueueLimits]}
+function testClientReadBlocksAsStream() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    stream<byte[], Error?> blocks = check socketClient->readBlocksAsStream();
+    string msg = "Hello Ballerina Echo as a stream of blocks";
+    check socketClient->writeBytes(msg.toBytes());
+
+    byte[] receivedData = [];
+    while (receivedData.length() < msg.length()) {
+        record {| byte[] value; |}? block = check blocks.next();
+        if (block is ()) {
+            test:assertFail(msg = "Stream of blocks ended before the echoed data is read");
+        } else {
+            receivedData.push(...block.value);
+        }
+    }
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientReadBlocksAsStream]}
+function testClientWriteBlocksFromStream() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    string[] messages = ["Hello ", "Ballerina ", "Echo ", "from ", "a stream"];
+    byte[][] blocks = messages.map(message => message.toBytes());
+    check socketClient->writeBlocksFromStream(blocks.toStream());
+
+    string expected = "Hello Ballerina Echo from a stream";
+    byte[] receivedData = [];
+    while (receivedData.length() < expected.length()) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), expected, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+class FailingBlocks {
+
+    private final byte[][] blocks;
+    private int index = 0;
+
+    isolated function init(byte[][] blocks) {
+        self.blocks = blocks;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|Error? {
+        if (self.index == self.blocks.length()) {
+            return error Error("Failed to produce the next block");
+        }
+        byte[] block = self.blocks[self.index];
+        self.index += 1;
+        return {value: block};
+    }
+}
+
+@test:Config {dependsOn: [testClientWriteBlocksFromStream]}
+function testClientWriteBlocksFromFailingStream() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    string[] messages = ["Hello ", "Ballerina ", "Echo ", "before a failure"];
+    stream<byte[], Error?> blocks = new (new FailingBlocks(messages.map(message => message.toBytes())));
+    Error? result = socketClient->writeBlocksFromStream(blocks);
+    if (result is Error) {
+        test:assertEquals(result.message(), "Failed to produce the next block");
+    } else {
+        test:assertFail(msg = "Error expected for a failing stream of blocks");
+    }
+
+    // The blocks pulled before the failure are written before the error is returned
+    string expected = "Hello Ballerina Echo before a failure";
+    byte[] receivedData = [];
+    while (receivedData.length() < expected.length()) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), expected, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientWriteBlocksFromFailingStream]}
+function testClientEchoWithPrefetch() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, prefetch = {highWaterMark: 1024, lowWaterMark: 256});
+
+    foreach int i in 0 ..< 5 {
+        string msg = "Hello Ballerina Echo with prefetch " + i.toString();
+        check socketClient->writeBytes(msg.toBytes());
+
+        byte[] receivedData = [];
+        while (receivedData.length() < msg.length()) {
+            readonly & byte[] chunk = check socketClient->readBytes();
+            receivedData.push(...chunk);
+        }
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    }
+
+    check socketClient->close();
+
+    Client|Error invalidClient = new ("localhost", 3000, prefetch = {highWaterMark: 256, lowWaterMark: 1024});
+    if (invalidClient is Client) {
+        test:assertFail(msg = "Low water mark higher than the high water mark should result in an error");
+    }
+}
+
+@test:Config {dependsOn: [testClientEchoWithPrefetch]}
+function testClientReadExactLength() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    check socketClient->writeBytes("Hello ".toBytes());
+    check socketClient->writeBytes("Ballerina Echo with exact lengths".toBytes());
+
+    readonly & byte[] firstRecord = check socketClient->readBytes(15);
+    test:assertEquals('string:fromBytes(firstRecord), "Hello Ballerina", "Found unexpected output");
+    readonly & byte[] secondRecord = check socketClient->readBytes(24);
+    test:assertEquals('string:fromBytes(secondRecord), " Echo with exact lengths", "Found unexpected output");
+
+    (readonly & byte[])|Error invalidRead = socketClient->readBytes(0);
+    if (invalidRead is (readonly & byte[])) {
+        test:assertFail(msg = "Reading zero bytes should result in an error");
+    }
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientReadExactLength]}
+function testClientPendingWritesFailWhenServerCloses() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT19, writeQueue = {maxPendingWriteBytes: 1024});
+
+    byte[] data = [];
+    data.setLength(4194304);
+    future<Error?>[] writes = [];
+    foreach int i in 0 ..< 3 {
+        writes.push(start socketClient->writeBytes(data));
+    }
+
+    // The writes left in the write queue must fail once the server closes the connection instead of waiting forever
+    int failedWrites = 0;
+    foreach future<Error?> write in writes {
+        Error? result = wait write;
+        if (result is Error) {
+            failedWrites += 1;
+        }
+    }
+    test:assertTrue(failedWrites > 0, msg = "Writes pending on a closed connection should fail");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientPendingWritesFailWhenServerCloses]}
+function testClientEchoWithNioTransport() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, transport = NIO);
+
+    string msg = "Hello Ballerina Echo from NIO client";
+    check socketClient->writeBytes(msg.toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEchoWithNioTransport]}
+function testClientEchoWithSocketOptions() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, socketOptions = {
+        noDelay: true,
+        keepAlive: true,
+        sendBufferSize: 65536,
+        receiveBufferSize: 65536,
+        writeBufferWaterMark: {low: 32768, high: 65536}
+    });
+
+    string msg = "Hello Ballerina Echo with socket options";
+    check socketClient->writeBytes(msg.toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEchoWithSocketOptions]}
+function testClientWithInvalidWriteBufferWaterMark() returns @tainted error? {
+    Client|Error socketClient = new ("localhost", 3000, socketOptions = {
+        writeBufferWaterMark: {low: 65536, high: 32768}
+    });
+    if (socketClient is Client) {
+        test:assertFail(msg = "Low water mark higher than the high water mark should result in an error");
+    }
+}
+
+@test:Config {dependsOn: [testClientWithInvalidWriteBufferWaterMark]}
+function testClientWithLinuxSocketOptionOnNioTransport() returns @tainted error? {
+    Client|Error socketClient = new ("localhost", PORT1, transport = NIO, socketOptions = {quickAck: true});
+    if (socketClient is Client) {
+        test:assertFail(msg = "Linux only socket options should be rejected when the NIO transport is used");
+    }
+}
+
+@test:Config {dependsOn: [testClientWithLinuxSocketOptionOnNioTransport]}
+function testClientEchoWithReceiveBufferConfiguration() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, allocator = POOLED_HEAP, receiveBuffer = {
+        minimum: 16,
+        initial: 16,
+        maximum: 64,
+        maxMessagesPerRead: 1
+    });
+
+    string msg = "Hello Ballerina Echo with a small receive buffer";
+    check socketClient->writeBytes(msg.toBytes());
+
+    byte[] receivedData = [];
+    while (receivedData.length() < msg.length()) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEchoWithReceiveBufferConfiguration]}
+function testClientEchoWithPooledHeapAllocatorOnEpollTransport() returns @tainted error? {
+    // The EPOLL transport falls back to NIO on the platforms which do not support it
+    Client socketClient = check new ("localhost", 3000, transport = EPOLL, allocator = POOLED_HEAP);
+
+    string msg = "Hello Ballerina Echo with pooled heap buffers";
+    check socketClient->writeBytes(msg.toBytes());
+
+    byte[] receivedData = [];
+    while (receivedData.length() < msg.length()) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEchoWithPooledHeapAllocatorOnEpollTransport]}
+function testNamedEventLoopWithMismatchedWorkerThreads() returns @tainted error? {
+    Client socketClient = check new ("localhost", 3000, eventLoop = {name: "mismatchedClientLoops", workerThreads: 1});
+
+    Client|Error mismatchedClient = new ("localhost", 3000,
+        eventLoop = {name: "mismatchedClientLoops", workerThreads: 2});
+    if (mismatchedClient is Client) {
+        check mismatchedClient->close();
+        test:assertFail(msg = "A different number of worker threads for a running event loop group should result in an error");
+    }
+    // The name only refers to the running group, hence a client without the number of threads joins it
+    Client sharingClient = check new ("localhost", 3000, eventLoop = {name: "mismatchedClientLoops"});
+    check sharingClient->close();
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testNamedEventLoopWithMismatchedWorkerThreads]}
 function testInvalidNeworkInterface() returns @tainted error? {
     Client|Error? socketClient = new ("localhost", 3000, localHost = "invalid");
 
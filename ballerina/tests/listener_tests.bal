@@ -31,6 +31,201 @@ function testListenerEcho() returns @tainted error? {
     check socketClient->close();
 }
 
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testListenerEchoWithDedicatedEventLoops() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT9, eventLoop = {name: "dedicatedClientLoops", workerThreads: 1});
+
+    string msg = "Hello from a client on a dedicated event loop";
+    check socketClient->writeBytes(msg.toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testListenerWithMultipleAcceptorsOnNioTransport() returns @tainted error? {
+    Listener shardedServer = check new Listener(PORT10, transport = NIO, acceptors = 2);
+    Service connectService = service object {
+        isolated remote function onConnect(Caller caller) returns ConnectionService {
+            return new EchoService();
+        }
+    };
+    check shardedServer.attach(connectService);
+    error? result = shardedServer.start();
+    if (result is ()) {
+        test:assertFail(msg = "Multiple acceptors should be rejected when the NIO transport is used");
+    }
+}
+
+@test:Config {dependsOn: [testListenerWithMultipleAcceptorsOnNioTransport]}
+function testSecureListenerWithMultipleAcceptors() returns @tainted error? {
+    Listener shardedServer = check new Listener(PORT18, transport = EPOLL, acceptors = 4, secureSocket = {
+        key: {
+            certFile: certPath,
+            keyFile: keyPath
+        }
+    });
+    Service connectService = service object {
+        isolated remote function onConnect(Caller caller) returns ConnectionService {
+            return new SecureEchoService();
+        }
+    };
+    check shardedServer.attach(connectService);
+    error? result = shardedServer.start();
+    if (result is error) {
+        // The EPOLL transport falls back to NIO on the platforms which do not support it
+        test:assertTrue(result.message().startsWith("Multiple acceptors are only supported by the EPOLL transport"),
+            msg = "Found unexpected error: " + result.message());
+        return;
+    }
+
+    // The connections are spread across the acceptors, which share the SSL context of the listener
+    foreach int i in 0 ..< 8 {
+        Client socketClient = check new ("localhost", PORT18, secureSocket = {cert: certPath});
+        string msg = "Hello Ballerina Echo from acceptor client " + i.toString();
+        check socketClient->writeBytes(msg.toBytes());
+
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+        check socketClient->close();
+    }
+    check shardedServer.gracefulStop();
+}
+
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testListenerEchoWithLengthPrefixedFrames() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT11, framing = {lengthFieldLength: 2});
+
+    string[] messages = ["Hello from the first frame", "Hello from the second frame"];
+    foreach string msg in messages {
+        check socketClient->writeBytes(msg.toBytes());
+    }
+    foreach string msg in messages {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected frame");
+    }
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testListenerEchoWithLineFrames() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT12);
+
+    check socketClient->writeBytes("Hello from the first line\r\nHello from the second line\n".toBytes());
+
+    readonly & byte[] firstLine = check socketClient->readUntil("\r\n".toBytes());
+    test:assertEquals('string:fromBytes(firstLine), "Hello from the first line", "Found unexpected line");
+    readonly & byte[] secondLine = check socketClient->readUntil("\n".toBytes());
+    test:assertEquals('string:fromBytes(secondLine), "Hello from the second line", "Found unexpected line");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testCallerWithIpAddresses() returns @tainted error? {
+    Client socketClient = check new ("127.0.0.1", PORT13);
+
+    check socketClient->writeBytes("Who am I?".toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), "true 127.0.0.1", "Found unexpected caller");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testCallerWithIpAddresses]}
+function testCallerResolveRemoteHostName() returns @tainted error? {
+    Client socketClient = check new ("127.0.0.1", PORT13);
+
+    check socketClient->writeBytes("What is my host name?".toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    string hostName = check 'string:fromBytes(receivedData);
+    // The textual address is returned if the address cannot be resolved
+    test:assertTrue(hostName == "localhost" || hostName == "127.0.0.1", "Found unexpected host name " + hostName);
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testConcurrentConnectionsWithOwnState() returns @tainted error? {
+    future<error?>[] clients = [];
+    foreach int id in 0 ..< 10 {
+        clients.push(start exchangeWithStatefulServer(id));
+    }
+    foreach future<error?> clientFuture in clients {
+        check wait clientFuture;
+    }
+}
+
+function exchangeWithStatefulServer(int id) returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT14);
+
+    string expected = "";
+    foreach int round in 0 ..< 5 {
+        string msg = string `${id}-${round};`;
+        expected += msg;
+        check socketClient->writeBytes(msg.toBytes());
+
+        byte[] receivedData = [];
+        while (receivedData.length() < expected.length()) {
+            readonly & byte[] chunk = check socketClient->readBytes();
+            receivedData.push(...chunk);
+        }
+        test:assertEquals('string:fromBytes(receivedData), expected, "Found data of another connection");
+    }
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testConcurrentConnectionsWithOwnState]}
+function testListenerOnBytesInOrder() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT15);
+
+    string expected = "";
+    foreach int i in 0 ..< 100 {
+        string msg = i.toString() + ";";
+        expected += msg;
+        check socketClient->writeBytes(msg.toBytes());
+    }
+
+    byte[] receivedData = check readAtLeast(socketClient, expected.length());
+    test:assertEquals('string:fromBytes(receivedData), expected, "Found data echoed out of order");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testListenerOnBytesInOrder]}
+function testIsolatedServiceInvokesOnBytesConcurrently() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT16);
+
+    // The messages are sent apart, hence each of them is read and dispatched on its own
+    string expected = "";
+    foreach int i in 0 ..< 4 {
+        string msg = i.toString() + ";";
+        expected += msg;
+        check socketClient->writeBytes(msg.toBytes());
+        runtime:sleep(0.1);
+    }
+    byte[] receivedData = check readAtLeast(socketClient, expected.length());
+    test:assertEquals(receivedData.length(), expected.length(), "Found unexpected output");
+    // The sequential invocations of a service which is not isolated would never overlap
+    test:assertTrue(getMaxConcurrentOnBytes() > 1, "Found onBytes of an isolated service invoked sequentially");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testIsolatedServiceInvokesOnBytesConcurrently]}
+function testListenerOnBytesBatch() returns @tainted error? {
+    Client socketClient = check new ("localhost", PORT17);
+
+    string expected = "";
+    foreach int i in 0 ..< 50 {
+        string msg = i.toString() + ";";
+        expected += msg;
+        check socketClient->writeBytes(msg.toBytes());
+    }
+
+    byte[] receivedData = check readAtLeast(socketClient, expected.length());
+    test:assertEquals('string:fromBytes(receivedData), expected, "Found unexpected output");
+    check socketClient->close();
+}
+
 @test:Config {dependsOn: [testServerAlreadyClosed]}
 function testListenerSendingBigData() returns @tainted error? {
     Client socketClient = check new ("localhost", PORT5);
@@ -15,12 +15,14 @@
 // under the License.
 
 import ballerina/io;
+import ballerina/lang.runtime as runtime;
 
 string certPath = "tests/etc/cert.pem";
 string keyPath = "tests/etc/key.pem";
 string keystore = "tests/etc/ballerinaKeystore.p12";
 string truststore = "tests/etc/ballerinaTruststore.p12";
 boolean onErrorInvoked = false;
+isolated record {| int active; int max; |} onBytesConcurrency = {active: 0, max: 0};
 
 const int PORT1 = 8809;
 const int PORT2 = 8023;
@@ -30,12 +32,32 @@ const int PORT5 = 8642;
 const int PORT6 = 8643;
 const int PORT7 = 8645;
 const int PORT8 = 8646;
+const int PORT9 = 8647;
+const int PORT10 = 8648;
+const int PORT11 = 8649;
+const int PORT12 = 8650;
+const int PORT13 = 8651;
+const int PORT14 = 8652;
+const int PORT15 = 8653;
+const int PORT16 = 8654;
+const int PORT17 = 8655;
+const int PORT18 = 8656;
+const int PORT19 = 8657;
 
 listener Listener echoServer = check new Listener(PORT1);
 listener Listener discardServer = check new Listener(PORT2);
 listener Listener closeServer = check new Listener(PORT3);
 listener Listener helloServer = check new Listener(PORT6);
 listener Listener errorServer = check new Listener(PORT8);
+listener Listener dedicatedLoopServer = check new Listener(PORT9, eventLoop = {workerThreads: 2});
+listener Listener framingServer = check new Listener(PORT11, framing = {lengthFieldLength: 2});
+listener Listener callerServer = check new Listener(PORT13, writeTimeout = 5);
+listener Listener statefulServer = check new Listener(PORT14);
+listener Listener orderedServer = check new Listener(PORT15, maxInFlightOnBytes = 1);
+listener Listener isolatedServer = check new Listener(PORT16, maxInFlightOnBytes = 4);
+listener Listener closingServer = check new Listener(PORT19);
+listener Listener batchServer = check new Listener(PORT17, batch = {maxChunks: 4, maxBytes: 1024});
+listener Listener lineServer = check new Listener(PORT12, framing = {delimiter: "\n".toBytes(), stripDelimiter: false});
 
 service on echoServer {
 
@@ -84,6 +106,160 @@ service class DiscardService {
     }
 }
 
+service on dedicatedLoopServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        io:println("Client connected to dedicatedLoopServer: ", caller.remotePort);
+        return new EchoService();
+    }
+}
+
+service on framingServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        io:println("Client connected to framingServer: ", caller.remotePort);
+        return new EchoService();
+    }
+}
+
+service on lineServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        io:println("Client connected to lineServer: ", caller.remotePort);
+        return new EchoService();
+    }
+}
+
+service on callerServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new CallerService(caller);
+    }
+}
+
+service class CallerService {
+
+    private final Caller connectedCaller;
+
+    isolated function init(Caller caller) {
+        self.connectedCaller = caller;
+    }
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        string response = (caller === self.connectedCaller).toString() + " " + caller.remoteHost;
+        if (data == "What is my host name?".toBytes()) {
+            response = caller.resolveRemoteHostName();
+        }
+        check caller->writeBytes(response.toBytes());
+    }
+}
+
+service on statefulServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new StatefulService();
+    }
+}
+
+service class StatefulService {
+
+    private byte[] receivedData = [];
+
+    remote function onBytes(readonly & byte[] data) returns byte[] {
+        // Replies with all the data received on this connection
+        self.receivedData.push(...data);
+        return self.receivedData.clone();
+    }
+}
+
+service on orderedServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new OrderedEchoService();
+    }
+}
+
+service class OrderedEchoService {
+
+    isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+        return data;
+    }
+}
+
+isolated service on isolatedServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new IsolatedEchoService();
+    }
+}
+
+isolated service class IsolatedEchoService {
+
+    isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+        lock {
+            onBytesConcurrency.active += 1;
+            if (onBytesConcurrency.active > onBytesConcurrency.max) {
+                onBytesConcurrency.max = onBytesConcurrency.active;
+            }
+        }
+        // Keeps the invocation in flight while the next data of the connection arrives
+        runtime:sleep(0.5);
+        lock {
+            onBytesConcurrency.active -= 1;
+        }
+        return data;
+    }
+}
+
+isolated function getMaxConcurrentOnBytes() returns int {
+    lock {
+        return onBytesConcurrency.max;
+    }
+}
+
+// Reads from the client until at least the given number of bytes are received
+function readAtLeast(Client socketClient, int length) returns @tainted byte[]|Error {
+    byte[] receivedData = [];
+    while (receivedData.length() < length) {
+        readonly & byte[] chunk = check socketClient->readBytes();
+        receivedData.push(...chunk);
+    }
+    return receivedData;
+}
+
+service on closingServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new ClosingService();
+    }
+}
+
+service class ClosingService {
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        // Closes the connection while the client still has writes pending
+        check caller->close();
+    }
+}
+
+service on batchServer {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new BatchEchoService();
+    }
+}
+
+service class BatchEchoService {
+
+    remote function onBytesBatch(readonly & byte[][] chunks) returns byte[] {
+        byte[] data = [];
+        foreach byte[] chunk in chunks {
+            data.push(...chunk);
+        }
+        return data;
+    }
+}
+
 service on errorServer {
     isolated remote function onConnect(Caller caller) returns ConnectionService {
         io:println("Client connected to errorServer: ", caller.remotePort);
@@ -0,0 +1,43 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the network transport used by the `tcp:Client` and the `tcp:Listener`.
+#
+# + AUTO - Uses the native epoll transport on Linux if available, otherwise falls back to `NIO`
+# + NIO - Uses the Java NIO based transport on every platform
+# + EPOLL - Uses the native epoll transport. Falls back to `NIO` on platforms where it is not available
+# + IO_URING - Uses the native io_uring transport. Falls back to `EPOLL` or `NIO` when the kernel does not
+#              support io_uring
+public enum Transport {
+    AUTO,
+    NIO,
+    EPOLL,
+    IO_URING
+}
+
+# Configurations related to the event loops that perform the network I/O of a `tcp:Client` or a `tcp:Listener`.
+#
+# + name - Name of a dedicated event loop group. All the clients and listeners configured with the same name share
+#          that group instead of the event loops shared by the rest of the module. The group is shut down once the
+#          last of them is closed. A client or a listener which sets `workerThreads` to a different number than the
+#          running group of the name fails to initialize
+# + workerThreads - Number of event loop threads that handle the I/O of the connections. If this is set without a
+#                   `name`, the client or the listener gets its own event loop group, which is shut down when it
+#                   is closed
+public type EventLoopConfiguration record {|
+    string name?;
+    int workerThreads?;
+|};
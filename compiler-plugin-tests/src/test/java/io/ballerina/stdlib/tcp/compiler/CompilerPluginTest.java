@@ -139,6 +139,36 @@ public class CompilerPluginTest {
         compilation = currentPackage.getCompilation();
         diagnosticResult = compilation.diagnosticResult();
         Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+
+        currentPackage = loadPackage("sample_package_16");
+        compilation = currentPackage.getCompilation();
+        diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+    }
+
+    @Test
+    public void testServiceWithOnBytesAndOnBytesBatch() {
+        Package currentPackage = loadPackage("sample_package_17");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.diagnostics().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
+                TcpConnectionServiceValidator.SERVICE_CONTAINS_BOTH_ON_BYTES_AND_ON_BYTES_BATCH_FUNCTIONS);
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), TcpConnectionServiceValidator.TCP_106);
+    }
+
+    @Test(description = "test onBytes with the chunks of onBytesBatch and onBytesBatch with the data of onBytes")
+    public void testOnBytesAndOnBytesBatchWithSwappedParameters() {
+        Package currentPackage = loadPackage("sample_package_18");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
+        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
+                    TcpConnectionServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION);
+            Assert.assertEquals(diagnostic.diagnosticInfo().code(), TcpConnectionServiceValidator.TCP_104);
+        }
     }
 
     @Test
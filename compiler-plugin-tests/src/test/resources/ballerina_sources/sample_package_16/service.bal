@@ -0,0 +1,25 @@
+import ballerina/tcp;
+
+service on new tcp:Listener(3000) {
+
+    remote function onConnect(tcp:Caller caller) returns tcp:ConnectionService {
+        return new EchoService();
+    }
+}
+
+service isolated class EchoService {
+
+    remote function onBytesBatch(readonly & byte[][] chunks, tcp:Caller caller) returns byte[]|tcp:Error? {
+        foreach byte[] chunk in chunks {
+            check caller->writeBytes(chunk);
+        }
+    }
+
+    remote function onError(tcp:Error err) returns tcp:Error? {
+
+    }
+
+    remote function onClose() returns tcp:Error? {
+
+    }
+}
@@ -0,0 +1,15 @@
+import ballerina/tcp;
+
+service on new tcp:Listener(3000) {
+
+    remote function onConnect(tcp:Caller caller) returns tcp:ConnectionService {
+        return new EchoService();
+    }
+}
+
+service isolated class EchoService {
+
+    remote function onBytes(readonly & byte[][] data) returns byte[] {
+        return data[0];
+    }
+}
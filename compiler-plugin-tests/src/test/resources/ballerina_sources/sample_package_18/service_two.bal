@@ -0,0 +1,15 @@
+import ballerina/tcp;
+
+service on new tcp:Listener(3001) {
+
+    remote function onConnect(tcp:Caller caller) returns tcp:ConnectionService {
+        return new BatchService();
+    }
+}
+
+service isolated class BatchService {
+
+    remote function onBytesBatch(readonly & byte[] chunks) returns byte[] {
+        return chunks;
+    }
+}
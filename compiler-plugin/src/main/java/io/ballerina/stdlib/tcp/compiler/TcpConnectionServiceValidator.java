@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.tcp.compiler;
 
 import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.MethodSymbol;
 import io.ballerina.compiler.api.symbols.ParameterSymbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
@@ -42,6 +43,7 @@ public class TcpConnectionServiceValidator {
 
     private MethodSymbol onCloseFunctionSymbol;
     private MethodSymbol onBytesFunctionSymbol;
+    private MethodSymbol onBytesBatchFunctionSymbol;
     private MethodSymbol onErrorFunctionSymbol;
     private final ClassSymbol classSymbol;
     private static final String modulePrefix = "ballerina/tcp" + SyntaxKind.COLON_TOKEN.stringValue();
@@ -53,10 +55,13 @@ public class TcpConnectionServiceValidator {
     public static final String TCP_103 = "TCP_103";
     public static final String TCP_104 = "TCP_104";
     public static final String TCP_105 = "TCP_105";
+    public static final String TCP_106 = "TCP_106";
 
     // Message formats for reporting error diagnostics
     public static final String SERVICE_DOES_NOT_CONTAIN_ON_BYTES_FUNCTION
-            = "Service does not contain `onBytes` function.";
+            = "Service does not contain `onBytes` or `onBytesBatch` function.";
+    public static final String SERVICE_CONTAINS_BOTH_ON_BYTES_AND_ON_BYTES_BATCH_FUNCTIONS
+            = "Service cannot contain both `onBytes` and `onBytesBatch` functions.";
     public static final String NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER
             = "No parameter provided for `{0}`, function expects `{1}` as a parameter.";
     public static final String REMOTE_KEYWORD_EXPECTED_IN_0_FUNCTION_SIGNATURE
@@ -77,6 +82,7 @@ public class TcpConnectionServiceValidator {
     public static final String READONLY_INTERSECTION = "readonly & ";
     public static final String CALLER = "Caller";
     public static final String BYTE_ARRAY = "byte[]";
+    public static final String BYTE_ARRAY_ARRAY = "byte[][]";
     public static final String ERROR = "Error";
     public static final String OPTIONAL = "?";
     public static final String NIL = "()";
@@ -91,6 +97,7 @@ public class TcpConnectionServiceValidator {
                 .forEach(methodSymbol -> filterRemoteMethods(methodSymbol));
         checkOnBytesFunctionExistence();
         validateFunctionSignature(onBytesFunctionSymbol, Constants.ON_BYTES);
+        validateFunctionSignature(onBytesBatchFunctionSymbol, Constants.ON_BYTES_BATCH);
         validateFunctionSignature(onErrorFunctionSymbol, Constants.ON_ERROR);
         validateFunctionSignature(onCloseFunctionSymbol, Constants.ON_CLOSE);
     }
@@ -99,12 +106,15 @@ public class TcpConnectionServiceValidator {
         String functionName = methodSymbol.getName().get();
         if (Utils.hasRemoteKeyword(methodSymbol)
                 && !Utils.equals(functionName, Constants.ON_BYTES)
+                && !Utils.equals(functionName, Constants.ON_BYTES_BATCH)
                 && !Utils.equals(functionName, Constants.ON_ERROR)
                 && !Utils.equals(functionName, Constants.ON_CLOSE)) {
             reportInvalidFunction(methodSymbol);
         } else {
             onBytesFunctionSymbol = Utils.equals(functionName, Constants.ON_BYTES) ? methodSymbol
                     : onBytesFunctionSymbol;
+            onBytesBatchFunctionSymbol = Utils.equals(functionName, Constants.ON_BYTES_BATCH) ? methodSymbol
+                    : onBytesBatchFunctionSymbol;
             onErrorFunctionSymbol = Utils.equals(functionName, Constants.ON_ERROR) ? methodSymbol
                     : onErrorFunctionSymbol;
             onCloseFunctionSymbol = Utils.equals(functionName, Constants.ON_CLOSE) ? methodSymbol
@@ -133,12 +143,17 @@ public class TcpConnectionServiceValidator {
     }
 
     private void checkOnBytesFunctionExistence() {
-        if (onBytesFunctionSymbol == null) {
-            // ConnectionService should contain onBytes method
+        if (onBytesFunctionSymbol == null && onBytesBatchFunctionSymbol == null) {
+            // ConnectionService should contain either onBytes or onBytesBatch method
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(TCP_102, SERVICE_DOES_NOT_CONTAIN_ON_BYTES_FUNCTION,
                     DiagnosticSeverity.ERROR);
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     ctx.node().location()));
+        } else if (onBytesFunctionSymbol != null && onBytesBatchFunctionSymbol != null) {
+            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(TCP_106,
+                    SERVICE_CONTAINS_BOTH_ON_BYTES_AND_ON_BYTES_BATCH_FUNCTIONS, DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    onBytesBatchFunctionSymbol.getLocation().get()));
         }
     }
 
@@ -158,8 +173,8 @@ public class TcpConnectionServiceValidator {
         if (parameterSymbols.isEmpty()) {
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(TCP_104,
                     NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER, DiagnosticSeverity.ERROR);
-            String expectedParameter = functionName.equals(Constants.ON_BYTES) ?
-                    READONLY_INTERSECTION + BYTE_ARRAY : modulePrefix + ERROR;
+            String expectedParameter = isOnBytesFunction(functionName) ?
+                    READONLY_INTERSECTION + getExpectedByteArray(functionName) : modulePrefix + ERROR;
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     methodSymbol.getLocation().get(), functionName, expectedParameter));
             return true;
@@ -176,10 +191,12 @@ public class TcpConnectionServiceValidator {
                         && signature.endsWith(SyntaxKind.COLON_TOKEN.stringValue() + CALLER);
                 boolean hasError = signature.startsWith(modulePrefix)
                         && signature.endsWith(SyntaxKind.COLON_TOKEN.stringValue() + ERROR);
-                boolean hasByteArray = signature.contains(BYTE_ARRAY);
+                boolean hasByteArray = typeSymbol.typeKind() == TypeDescKind.INTERSECTION
+                        ? isReadonlyByteArray((IntersectionTypeSymbol) typeSymbol, functionName)
+                        : Utils.equals(signature, getExpectedByteArray(functionName));
                 DiagnosticInfo diagnosticInfo;
 
-                if (functionName.equals(Constants.ON_BYTES)
+                if (isOnBytesFunction(functionName)
                         && ((typeSymbol.typeKind() == TypeDescKind.INTERSECTION && !hasByteArray)
                         || (typeSymbol.typeKind() == TypeDescKind.TYPE_REFERENCE && !hasCaller))) {
                     diagnosticInfo = new DiagnosticInfo(TCP_104, INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION,
@@ -196,12 +213,12 @@ public class TcpConnectionServiceValidator {
                 } else if (typeSymbol.typeKind() != TypeDescKind.TYPE_REFERENCE
                         && typeSymbol.typeKind() != TypeDescKind.INTERSECTION
                         && typeSymbol.typeKind() != TypeDescKind.ERROR) {
-                    if (functionName.equals(Constants.ON_BYTES) && hasByteArray) {
+                    if (isOnBytesFunction(functionName) && hasByteArray) {
                         diagnosticInfo = new DiagnosticInfo(TCP_104,
                                 INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2, DiagnosticSeverity.ERROR);
                         ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                                 parameterSymbol.getLocation().get(), parameterSymbol.signature(), functionName,
-                                READONLY_INTERSECTION + BYTE_ARRAY));
+                                READONLY_INTERSECTION + getExpectedByteArray(functionName)));
                     } else {
                         diagnosticInfo = new DiagnosticInfo(TCP_104, INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION,
                                 DiagnosticSeverity.ERROR);
@@ -221,6 +238,12 @@ public class TcpConnectionServiceValidator {
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     onBytesFunctionSymbol.getLocation().get(), parameterCount, functionName, 2));
             return false;
+        } else if (functionName.equals(Constants.ON_BYTES_BATCH) && parameterCount > 2) {
+            diagnosticInfo = new DiagnosticInfo(TCP_104, PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS,
+                    DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    onBytesBatchFunctionSymbol.getLocation().get(), parameterCount, functionName, 2));
+            return false;
         } else if (functionName.equals(Constants.ON_ERROR) && parameterCount > 1) {
             diagnosticInfo = new DiagnosticInfo(TCP_104, PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS,
                     DiagnosticSeverity.ERROR);
@@ -245,7 +268,7 @@ public class TcpConnectionServiceValidator {
         }
 
         TypeSymbol returnTypeSymbol = typeSymbol.get();
-        if (functionName.equals(Constants.ON_BYTES) && returnTypeSymbol.typeKind() == TypeDescKind.ARRAY
+        if (isOnBytesFunction(functionName) && returnTypeSymbol.typeKind() == TypeDescKind.ARRAY
                 && Utils.equals(returnTypeSymbol.signature(), BYTE_ARRAY)) {
             return;
         }
@@ -274,7 +297,7 @@ public class TcpConnectionServiceValidator {
                 }
             }
             hasInvalidUnionTypeDesc = !isOptionalError || hasInvalidUnionTypeDesc;
-        } else if (functionName.equals(Constants.ON_BYTES) && returnTypeSymbol.typeKind() == TypeDescKind.UNION) {
+        } else if (isOnBytesFunction(functionName) && returnTypeSymbol.typeKind() == TypeDescKind.UNION) {
             isUnionTypeDesc = true;
             for (TypeSymbol symbol : ((UnionTypeSymbol) typeSymbol.get()).memberTypeDescriptors()) {
                 if (symbol.typeKind() == TypeDescKind.ARRAY && Utils.equals(symbol.signature(), BYTE_ARRAY)) {
@@ -297,7 +320,7 @@ public class TcpConnectionServiceValidator {
         Location returnTypeSymbolLocation = returnTypeSymbol.getLocation().isPresent() ?
                 returnTypeSymbol.getLocation().get() : methodSymbol.getLocation().get();
         if ((hasInvalidUnionTypeDesc || !isUnionTypeDesc)) {
-            if (functionName.equals(Constants.ON_BYTES)) {
+            if (isOnBytesFunction(functionName)) {
                 ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                         returnTypeSymbolLocation, returnTypeSymbol.signature(), functionName,
                         BYTE_ARRAY + "|" + modulePrefix + ERROR + OPTIONAL));
@@ -308,4 +331,22 @@ public class TcpConnectionServiceValidator {
             }
         }
     }
+
+    // onBytesBatch accepts the same parameters and return types as onBytes, except that it receives many chunks
+    private static boolean isOnBytesFunction(String functionName) {
+        return functionName.equals(Constants.ON_BYTES) || functionName.equals(Constants.ON_BYTES_BATCH);
+    }
+
+    // onBytes expects `readonly & byte[]` and onBytesBatch `readonly & byte[][]`, neither accepts the other
+    private static boolean isReadonlyByteArray(IntersectionTypeSymbol typeSymbol, String functionName) {
+        List<TypeSymbol> memberTypes = typeSymbol.memberTypeDescriptors();
+        return memberTypes.size() == 2
+                && memberTypes.stream().anyMatch(memberType -> memberType.typeKind() == TypeDescKind.READONLY)
+                && memberTypes.stream().anyMatch(memberType -> memberType.typeKind() == TypeDescKind.ARRAY
+                        && Utils.equals(memberType.signature(), getExpectedByteArray(functionName)));
+    }
+
+    private static String getExpectedByteArray(String functionName) {
+        return functionName.equals(Constants.ON_BYTES_BATCH) ? BYTE_ARRAY_ARRAY : BYTE_ARRAY;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the timeout of a single read or write, which used to add an idle state handler to the pipeline
+ * and remove it again, while a deadline of the channel is armed and disarmed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeadlineBenchmark {
+
+    private static final String IDLE_STATE_HANDLER = "idleStateHandler";
+    // Long enough for none of the timeouts to expire while they are measured
+    private static final long TIMEOUT_IN_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private EmbeddedChannel channel;
+    private Deadline deadline;
+
+    @Setup
+    public void setup() {
+        channel = new EmbeddedChannel();
+        deadline = new Deadline(() -> { });
+    }
+
+    @TearDown
+    public void tearDown() {
+        deadline.disarm();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void addAndRemoveIdleStateHandler() {
+        channel.pipeline().addFirst(IDLE_STATE_HANDLER, new IdleStateHandler(TIMEOUT_IN_NANOS, 0, 0,
+                TimeUnit.NANOSECONDS));
+        channel.pipeline().remove(IDLE_STATE_HANDLER);
+    }
+
+    @Benchmark
+    public void armAndDisarmDeadline() {
+        deadline.arm(channel, TIMEOUT_IN_NANOS);
+        deadline.disarm();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost per message of looking up the onBytes method of a connection service in its dispatch table. The
+ * table is resolved once when it is set up, hence the types it is resolved from are not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchTableBenchmark {
+
+    private DispatchTable dispatchTable;
+
+    @Setup
+    public void setup() {
+        Type dataType = createType(Type.class, Map.of("getTag", TypeTags.INTERSECTION_TAG));
+        Type callerType = createType(Type.class, Map.of("getTag", TypeTags.OBJECT_TYPE_TAG));
+        MethodType[] methods = {
+                createMethod("init"),
+                createMethod(Constants.ON_BYTES, dataType, callerType),
+                createMethod(Constants.ON_ERROR, callerType),
+                createMethod(Constants.ON_CLOSE)
+        };
+        dispatchTable = DispatchTable.of(createType(ObjectType.class, Map.of("getMethods", methods,
+                "isIsolated", true)));
+    }
+
+    @Benchmark
+    public void lookUpDispatchTable(Blackhole blackhole) {
+        for (DispatchTable.OnBytesParameter parameter : dispatchTable.getOnBytesParameters()) {
+            blackhole.consume(parameter);
+        }
+        blackhole.consume(dispatchTable.getReturnType(Constants.ON_BYTES));
+        blackhole.consume(dispatchTable.isIsolated(Constants.ON_BYTES));
+        blackhole.consume(dispatchTable.hasOnError());
+    }
+
+    private static MethodType createMethod(String name, Type... parameterTypes) {
+        FunctionType functionType = createType(FunctionType.class, Map.of("getParameterTypes", parameterTypes,
+                "getReturnType", createType(Type.class, Map.of("getTag", TypeTags.NULL_TAG))));
+        return createType(MethodType.class, Map.of("getName", name, "getType", functionType));
+    }
+
+    // The types are proxies of the runtime interfaces, which are only read while the dispatch table is resolved
+    private static <T> T createType(Class<T> typeClass, Map<String, Object> values) {
+        return typeClass.cast(Proxy.newProxyInstance(typeClass.getClassLoader(), new Class<?>[]{typeClass},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return values.get(method.getName());
+                    }
+                }));
+    }
+}
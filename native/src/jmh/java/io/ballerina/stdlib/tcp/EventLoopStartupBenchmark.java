@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the start up of the event loops used by the first client of a program. The factory used to create a boss
+ * group and a worker group up front, while the worker group of the transport is now created when the first client
+ * acquires it and no boss group is created for the clients. Each shot runs a task on an event loop, as the
+ * registration of the first channel does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+public class EventLoopStartupBenchmark {
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    private final List<EventLoopGroup> eagerGroups = new ArrayList<>();
+    private TcpEventLoopGroup lazyGroup;
+    private EventLoopGroup acquiredGroup;
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        for (EventLoopGroup group : eagerGroups) {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        }
+        eagerGroups.clear();
+        if (lazyGroup != null) {
+            lazyGroup.release();
+            acquiredGroup.terminationFuture().syncUninterruptibly();
+            lazyGroup = null;
+        }
+    }
+
+    @Benchmark
+    public void createEagerGroups() {
+        eagerGroups.add(new NioEventLoopGroup(PROCESSORS));
+        EventLoopGroup workerGroup = new NioEventLoopGroup(PROCESSORS * 2);
+        eagerGroups.add(workerGroup);
+        workerGroup.next().submit(() -> { }).syncUninterruptibly();
+    }
+
+    @Benchmark
+    public void acquireWorkerGroup() {
+        lazyGroup = new TcpEventLoopGroup(TcpTransport.NIO, PROCESSORS * 2);
+        acquiredGroup = lazyGroup.acquire();
+        acquiredGroup.next().submit(() -> { }).syncUninterruptibly();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trips of a small message to an echo server on the loopback interface, with the client and the
+ * server on the same transport. A transport which is not available on the platform fails its setup, hence it is
+ * reported as an error and the other transports are still measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoopbackEchoBenchmark {
+
+    private static final int MESSAGE_SIZE = 64;
+
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    private String transportName;
+
+    private EventLoopGroup serverGroup;
+    private EventLoopGroup clientGroup;
+    private Channel clientChannel;
+    private EchoClientHandler clientHandler;
+    private ByteBuf message;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        TcpTransport transport = TcpTransport.valueOf(transportName);
+        if (!transport.isAvailable()) {
+            throw new IllegalStateException(transport + " transport is not available on this platform");
+        }
+        serverGroup = transport.createEventLoopGroup(1);
+        clientGroup = transport.createEventLoopGroup(1);
+        Channel serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(transport.getServerSocketChannelClass())
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new EchoServerHandler())
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).sync().channel();
+        clientHandler = new EchoClientHandler();
+        clientChannel = new Bootstrap()
+                .group(clientGroup)
+                .channel(transport.getSocketChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(clientHandler)
+                .connect(serverChannel.localAddress()).sync().channel();
+        message = Unpooled.unreleasableBuffer(Unpooled.directBuffer(MESSAGE_SIZE).writeZero(MESSAGE_SIZE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientChannel.close().syncUninterruptibly();
+        clientGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Benchmark
+    public void echo() throws Exception {
+        CompletableFuture<Void> echoed = clientHandler.expectEcho();
+        clientChannel.writeAndFlush(message.duplicate());
+        echoed.get();
+    }
+
+    @ChannelHandler.Sharable
+    private static final class EchoServerHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.writeAndFlush(msg);
+        }
+    }
+
+    private static final class EchoClientHandler extends ChannelInboundHandlerAdapter {
+
+        private volatile CompletableFuture<Void> echoed;
+        // Accessed only on the event loop of the client channel
+        private int receivedBytes;
+
+        CompletableFuture<Void> expectEcho() {
+            echoed = new CompletableFuture<>();
+            return echoed;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ByteBuf data = (ByteBuf) msg;
+            receivedBytes += data.readableBytes();
+            data.release();
+            if (receivedBytes >= MESSAGE_SIZE) {
+                receivedBytes -= MESSAGE_SIZE;
+                echoed.complete(null);
+            }
+        }
+    }
+}
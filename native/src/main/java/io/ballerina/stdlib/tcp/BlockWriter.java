@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BError;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+
+/**
+ * {@link BlockWriter} pipelines the blocks of a stream onto a channel. The blocks are written without waiting for
+ * each other, but the strand pulling them from the stream waits while a window of bytes is still to be written to
+ * the socket, which keeps the memory held by the unwritten blocks bounded. Each wait is bounded by the write timeout
+ * of the client. Once a block fails or a wait times out, the blocks which are not yet written are dropped.
+ */
+public class BlockWriter {
+
+    private final Channel channel;
+    private final WriteQueue writeQueue;
+    private final long windowBytes;
+    private final long writeTimeoutInNanos;
+    private final Deadline waitDeadline = new Deadline(this::waitTimedOut);
+    private long pendingBytes;
+    private Future waitingCallback;
+    private boolean isFinishing;
+    private BError error;
+
+    BlockWriter(Channel channel, WriteQueue writeQueue, long writeTimeoutInNanos) {
+        this.channel = channel;
+        this.writeQueue = writeQueue;
+        this.writeTimeoutInNanos = writeTimeoutInNanos;
+        // Writing more than what makes the channel unwritable would only buffer the blocks in memory
+        this.windowBytes = channel.config().getWriteBufferHighWaterMark();
+    }
+
+    /**
+     * Writes the given block, the strand waits only if the window of the unwritten bytes is full.
+     *
+     * @param env environment of the writing strand
+     * @param block the block to be written
+     * @return an error if an earlier block failed, unless the strand waits
+     */
+    public Object write(Environment env, ByteBuf block) {
+        synchronized (this) {
+            if (error != null) {
+                block.release();
+                return error;
+            }
+            pendingBytes += block.readableBytes();
+            if (pendingBytes >= windowBytes) {
+                waitFor(env);
+            }
+        }
+        writeQueue.add(channel, new BlockWriteFlowController(block));
+        return null;
+    }
+
+    /**
+     * Waits until all the written blocks are either written to the socket or dropped, hence none of them is written
+     * after the stream is done, even if the stream or a block failed.
+     *
+     * @param env environment of the writing strand
+     * @return an error if any of the blocks failed, unless the strand waits
+     */
+    public synchronized Object finish(Environment env) {
+        if (pendingBytes > 0) {
+            isFinishing = true;
+            waitFor(env);
+        }
+        return error;
+    }
+
+    private void waitFor(Environment env) {
+        waitingCallback = env.markAsync();
+        waitDeadline.arm(channel, writeTimeoutInNanos);
+    }
+
+    private void waitTimedOut() {
+        Future callback;
+        BError result;
+        synchronized (this) {
+            if (waitingCallback == null) {
+                return;
+            }
+            if (error == null) {
+                error = Utils.createTcpError("Write timed out");
+            }
+            result = error;
+            callback = waitingCallback;
+            waitingCallback = null;
+        }
+        callback.complete(result);
+    }
+
+    private synchronized BError getError() {
+        return error;
+    }
+
+    private void blockWritten(long blockBytes, BError blockError) {
+        Future callback = null;
+        BError result;
+        synchronized (this) {
+            pendingBytes -= blockBytes;
+            if (error == null) {
+                error = blockError;
+            }
+            result = error;
+            boolean canResume = isFinishing ? pendingBytes == 0 : (pendingBytes < windowBytes || error != null);
+            if (waitingCallback != null && canResume) {
+                callback = waitingCallback;
+                waitingCallback = null;
+            }
+        }
+        if (callback != null) {
+            waitDeadline.disarm();
+            callback.complete(result);
+        }
+    }
+
+    private class BlockWriteFlowController extends WriteFlowController {
+
+        private final long blockBytes;
+
+        BlockWriteFlowController(ByteBuf block) {
+            super(block);
+            this.blockBytes = block.readableBytes();
+        }
+
+        @Override
+        public ChannelFuture writeData(Channel channel) {
+            BError writeError = getError();
+            if (writeError != null) {
+                sendBuffer.release();
+                return channel.newFailedFuture(writeError);
+            }
+            return super.writeData(channel);
+        }
+
+        @Override
+        public void writeCompleted(ChannelFuture future) {
+            blockWritten(blockBytes, future.isSuccess() ? null
+                    : Utils.createTcpError("Failed to write data: " + future.cause().getMessage()));
+        }
+
+        @Override
+        public void fail(BError error) {
+            sendBuffer.release();
+            blockWritten(blockBytes, error);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ChunkBatch} holds the chunks read from a channel which are not yet passed to onBytesBatch. The chunks of
+ * one read cycle are collected until the cycle completes or the configured limits are reached. A batch is confined to
+ * the event loop of its channel.
+ */
+public class ChunkBatch {
+
+    private static final ArrayType CHUNKS_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE, true), true);
+
+    private final ChunkBatchConfig config;
+    private final List<Object> chunks = new ArrayList<>();
+    private int bytes;
+
+    public ChunkBatch(ChunkBatchConfig config) {
+        this.config = config;
+    }
+
+    // A chunk larger than the byte limit is still accepted by an empty batch, hence it is passed on its own
+    public boolean canAdd(int length) {
+        return chunks.isEmpty() || (long) bytes + length <= config.getMaxBytes();
+    }
+
+    public void add(byte[] chunk) {
+        chunks.add(ValueCreator.createReadonlyArrayValue(chunk));
+        bytes += chunk.length;
+    }
+
+    public boolean isFull() {
+        return chunks.size() >= config.getMaxChunks() || bytes >= config.getMaxBytes();
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Removes the collected chunks from the batch.
+     *
+     * @return the chunks as a readonly `byte[][]`
+     */
+    public BArray take() {
+        BArray result = ValueCreator.createArrayValue(chunks.toArray(), CHUNKS_TYPE);
+        chunks.clear();
+        bytes = 0;
+        return result;
+    }
+}
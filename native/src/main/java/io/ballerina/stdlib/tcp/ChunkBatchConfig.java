@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@link ChunkBatchConfig} holds the limits of the chunks passed to a single onBytesBatch invocation.
+ */
+public class ChunkBatchConfig {
+
+    public static final ChunkBatchConfig DEFAULT = new ChunkBatchConfig(64, 256 * 1024);
+
+    private final int maxChunks;
+    private final int maxBytes;
+
+    private ChunkBatchConfig(int maxChunks, int maxBytes) {
+        this.maxChunks = maxChunks;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Creates the batch limits of the given batch configuration.
+     *
+     * @param config batch configuration of a listener
+     * @return the batch limits
+     * @throws IllegalArgumentException if the configured limits are invalid
+     */
+    public static ChunkBatchConfig fromConfig(BMap<BString, Object> config) {
+        long maxChunks = config.getIntValue(Constants.BATCH_MAX_CHUNKS);
+        long maxBytes = config.getIntValue(Constants.BATCH_MAX_BYTES);
+        if (maxChunks <= 0 || maxChunks > Integer.MAX_VALUE || maxBytes <= 0 || maxBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Batch limits must be positive integers not greater than "
+                    + Integer.MAX_VALUE);
+        }
+        return new ChunkBatchConfig((int) maxChunks, (int) maxBytes);
+    }
+
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+}
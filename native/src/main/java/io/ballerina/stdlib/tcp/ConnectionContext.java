@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link ConnectionContext} holds the state of a connection accepted by a listener. A context is created for each
+ * channel and stored as an attribute of it, hence the connections of a listener do not share any mutable state.
+ */
+public class ConnectionContext {
+
+    private static final AttributeKey<ConnectionContext> CONNECTION_CONTEXT = AttributeKey.valueOf(
+            ConnectionContext.class, "connectionContext");
+
+    private final TcpService tcpService;
+    private final Channel channel;
+    private final int maxInFlightOnBytes;
+    private final long writeTimeoutInNanos;
+    private final ChunkBatch chunkBatch;
+    private final AtomicBoolean isCloseDispatched = new AtomicBoolean(false);
+    private volatile BObject connectionService;
+    private volatile DispatchTable dispatchTable;
+    private volatile BObject caller;
+    private volatile boolean isCallerClosed;
+    // Accessed only on the event loop of the channel
+    private int inFlightOnBytes;
+
+    private ConnectionContext(TcpService tcpService, Channel channel, TcpChannelOptions channelOptions) {
+        this.tcpService = tcpService;
+        this.channel = channel;
+        this.maxInFlightOnBytes = channelOptions.getMaxInFlightOnBytes();
+        this.writeTimeoutInNanos = channelOptions.getCallerWriteTimeoutInNanos();
+        this.chunkBatch = new ChunkBatch(channelOptions.getChunkBatchConfig());
+    }
+
+    /**
+     * Creates the context of the given channel and stores it in the channel.
+     *
+     * @param tcpService the service attached to the listener which accepted the channel
+     * @param channel the accepted channel
+     * @param channelOptions the connection settings of the listener
+     * @return the context of the channel
+     */
+    public static ConnectionContext create(TcpService tcpService, Channel channel,
+                                           TcpChannelOptions channelOptions) {
+        ConnectionContext connection = new ConnectionContext(tcpService, channel, channelOptions);
+        channel.attr(CONNECTION_CONTEXT).set(connection);
+        return connection;
+    }
+
+    public static ConnectionContext get(Channel channel) {
+        return channel.attr(CONNECTION_CONTEXT).get();
+    }
+
+    public Runtime getRuntime() {
+        return tcpService.getRuntime();
+    }
+
+    public BObject getService() {
+        return tcpService.getService();
+    }
+
+    public DispatchTable getServiceDispatchTable() {
+        return tcpService.getDispatchTable();
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public void setConnectionService(BObject connectionService) {
+        this.dispatchTable = DispatchTable.of(connectionService.getType());
+        this.connectionService = connectionService;
+    }
+
+    public BObject getConnectionService() {
+        return connectionService;
+    }
+
+    public DispatchTable getDispatchTable() {
+        return dispatchTable;
+    }
+
+    public long getWriteTimeoutInNanos() {
+        return writeTimeoutInNanos;
+    }
+
+    public ChunkBatch getChunkBatch() {
+        return chunkBatch;
+    }
+
+    /**
+     * Returns the caller of the connection, which is created once and shared by all the remote methods of the
+     * connection. The remote methods are dispatched from the event loop of the channel, hence the caller is not
+     * created concurrently.
+     *
+     * @return the caller of the connection
+     */
+    public BObject getCaller() {
+        if (caller == null) {
+            caller = createCaller();
+        }
+        return caller;
+    }
+
+    private BObject createCaller() {
+        InetSocketAddress remoteAddress = (InetSocketAddress) channel.remoteAddress();
+        InetSocketAddress localAddress = (InetSocketAddress) channel.localAddress();
+        final BObject caller = ValueCreator.createObjectValue(Utils.getTcpPackage(), Constants.CALLER);
+        // The hosts are the textual IP addresses, as a reverse lookup of the host names would block the event loop
+        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_PORT), remoteAddress.getPort());
+        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_HOST),
+                StringUtils.fromString(Utils.getHostAddress(remoteAddress)));
+        caller.set(StringUtils.fromString(Constants.CALLER_LOCAL_PORT), localAddress.getPort());
+        caller.set(StringUtils.fromString(Constants.CALLER_LOCAL_HOST),
+                StringUtils.fromString(Utils.getHostAddress(localAddress)));
+        caller.addNativeData(Constants.CHANNEL, channel);
+        caller.addNativeData(Constants.CONNECTION_CONTEXT, this);
+        caller.addNativeData(Constants.CALLER_REMOTE_ADDRESS, remoteAddress);
+        return caller;
+    }
+
+    public boolean isCallerClosed() {
+        return isCallerClosed;
+    }
+
+    public void setCallerClosed() {
+        isCallerClosed = true;
+    }
+
+    // The connection is closed either by the caller or by the remote host, onClose is dispatched only for the first
+    public boolean markCloseDispatched() {
+        return isCloseDispatched.compareAndSet(false, true);
+    }
+
+    /**
+     * Counts an onBytes or onBytesBatch invocation of the connection and pauses the reads once the maximum number of
+     * invocations are in flight. Invoked on the event loop of the channel once the invocation is submitted, hence
+     * an invocation which could not be started is never counted.
+     */
+    public void onBytesDispatched() {
+        if (++inFlightOnBytes >= maxInFlightOnBytes) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    /**
+     * Resumes the reads paused by {@link #onBytesDispatched()} once an onBytes invocation completes. The counter is
+     * updated on the event loop of the channel, hence a completion never races with the dispatch which paused the
+     * reads.
+     */
+    public void onBytesCompleted() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        Utils.executeOnEventLoop(channel, () -> {
+            if (--inFlightOnBytes < maxInFlightOnBytes) {
+                channel.config().setAutoRead(true);
+            }
+        });
+    }
+}
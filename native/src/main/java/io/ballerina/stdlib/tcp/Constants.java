@@ -30,19 +30,88 @@ public class Constants {
     public static final String CONFIG_LOCALHOST = "localHost";
     public static final String CONFIG_READ_TIMEOUT = "timeout";
     public static final String CONFIG_WRITE_TIMEOUT = "writeTimeout";
+    public static final String CONFIG_TRANSPORT = "transport";
+    public static final String CONFIG_BOSS_THREADS = "bossThreads";
+    public static final String CONFIG_ACCEPTORS = "acceptors";
+    public static final BString CONFIG_EVENT_LOOP = StringUtils.fromString("eventLoop");
+    public static final BString CONFIG_EVENT_LOOP_NAME = StringUtils.fromString("name");
+    public static final BString CONFIG_EVENT_LOOP_WORKER_THREADS = StringUtils.fromString("workerThreads");
+
+    // Constants related to socket options
+    public static final BString CONFIG_ALLOCATOR = StringUtils.fromString("allocator");
+    public static final BString CONFIG_RECEIVE_BUFFER = StringUtils.fromString("receiveBuffer");
+    public static final BString RECEIVE_BUFFER_MINIMUM = StringUtils.fromString("minimum");
+    public static final BString RECEIVE_BUFFER_INITIAL = StringUtils.fromString("initial");
+    public static final BString RECEIVE_BUFFER_MAXIMUM = StringUtils.fromString("maximum");
+    public static final BString RECEIVE_BUFFER_MAX_MESSAGES_PER_READ = StringUtils.fromString("maxMessagesPerRead");
+    public static final String ALLOCATOR_POOLED_DIRECT = "POOLED_DIRECT";
+    public static final String ALLOCATOR_POOLED_HEAP = "POOLED_HEAP";
+    public static final BString CONFIG_WRITE_QUEUE = StringUtils.fromString("writeQueue");
+    public static final BString WRITE_QUEUE_MAX_PENDING_BYTES = StringUtils.fromString("maxPendingWriteBytes");
+    public static final BString WRITE_QUEUE_RESUME_BYTES = StringUtils.fromString("resumeWriteBytes");
+    public static final BString WRITE_QUEUE_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+    public static final String OVERFLOW_POLICY_FAIL = "FAIL";
+    public static final BString CONFIG_FRAMING = StringUtils.fromString("framing");
+    public static final BString FRAMING_MAX_FRAME_LENGTH = StringUtils.fromString("maxFrameLength");
+    public static final BString FRAMING_LENGTH_FIELD_OFFSET = StringUtils.fromString("lengthFieldOffset");
+    public static final BString FRAMING_LENGTH_FIELD_LENGTH = StringUtils.fromString("lengthFieldLength");
+    public static final BString FRAMING_LENGTH_ADJUSTMENT = StringUtils.fromString("lengthAdjustment");
+    public static final BString FRAMING_BYTE_ORDER = StringUtils.fromString("byteOrder");
+    public static final String BYTE_ORDER_LITTLE_ENDIAN = "LITTLE_ENDIAN";
+    public static final BString FRAMING_DELIMITER = StringUtils.fromString("delimiter");
+    public static final BString FRAMING_STRIP_DELIMITER = StringUtils.fromString("stripDelimiter");
+    public static final BString CONFIG_MAX_IN_FLIGHT_ON_BYTES = StringUtils.fromString("maxInFlightOnBytes");
+    public static final BString CONFIG_BATCH = StringUtils.fromString("batch");
+    public static final BString CONFIG_CALLER_WRITE_TIMEOUT = StringUtils.fromString("writeTimeout");
+    public static final BString BATCH_MAX_CHUNKS = StringUtils.fromString("maxChunks");
+    public static final BString BATCH_MAX_BYTES = StringUtils.fromString("maxBytes");
+    public static final BString CONFIG_PREFETCH = StringUtils.fromString("prefetch");
+    public static final BString PREFETCH_HIGH_WATER_MARK = StringUtils.fromString("highWaterMark");
+    public static final BString PREFETCH_LOW_WATER_MARK = StringUtils.fromString("lowWaterMark");
+    public static final BString SOCKET_OPTIONS = StringUtils.fromString("socketOptions");
+    public static final BString SOCKET_OPTIONS_NO_DELAY = StringUtils.fromString("noDelay");
+    public static final BString SOCKET_OPTIONS_KEEP_ALIVE = StringUtils.fromString("keepAlive");
+    public static final BString SOCKET_OPTIONS_SEND_BUFFER_SIZE = StringUtils.fromString("sendBufferSize");
+    public static final BString SOCKET_OPTIONS_RECEIVE_BUFFER_SIZE = StringUtils.fromString("receiveBufferSize");
+    public static final BString SOCKET_OPTIONS_LINGER = StringUtils.fromString("linger");
+    public static final BString SOCKET_OPTIONS_WRITE_BUFFER_WATER_MARK = StringUtils.fromString("writeBufferWaterMark");
+    public static final BString SOCKET_OPTIONS_BACKLOG = StringUtils.fromString("backlog");
+    public static final BString SOCKET_OPTIONS_REUSE_ADDRESS = StringUtils.fromString("reuseAddress");
+    public static final BString SOCKET_OPTIONS_FAST_OPEN = StringUtils.fromString("fastOpen");
+    public static final BString SOCKET_OPTIONS_FAST_OPEN_QUEUE_LENGTH = StringUtils.fromString("fastOpenQueueLength");
+    public static final BString SOCKET_OPTIONS_QUICK_ACK = StringUtils.fromString("quickAck");
+    public static final BString SOCKET_OPTIONS_CORK = StringUtils.fromString("cork");
+    public static final BString SOCKET_OPTIONS_USER_TIMEOUT = StringUtils.fromString("userTimeout");
+    public static final BString SOCKET_OPTIONS_KEEP_IDLE = StringUtils.fromString("keepIdle");
+    public static final BString SOCKET_OPTIONS_KEEP_INTERVAL = StringUtils.fromString("keepInterval");
+    public static final BString SOCKET_OPTIONS_KEEP_COUNT = StringUtils.fromString("keepCount");
+    public static final BString SOCKET_OPTIONS_BUSY_POLL = StringUtils.fromString("busyPoll");
+    public static final BString[] LINUX_SOCKET_OPTIONS = {SOCKET_OPTIONS_FAST_OPEN,
+            SOCKET_OPTIONS_FAST_OPEN_QUEUE_LENGTH, SOCKET_OPTIONS_QUICK_ACK, SOCKET_OPTIONS_CORK,
+            SOCKET_OPTIONS_USER_TIMEOUT, SOCKET_OPTIONS_KEEP_IDLE, SOCKET_OPTIONS_KEEP_INTERVAL,
+            SOCKET_OPTIONS_KEEP_COUNT, SOCKET_OPTIONS_BUSY_POLL};
+    public static final BString WRITE_BUFFER_WATER_MARK_LOW = StringUtils.fromString("low");
+    public static final BString WRITE_BUFFER_WATER_MARK_HIGH = StringUtils.fromString("high");
+
+    // Constants related to transport selection
+    public static final String TRANSPORT_AUTO = "AUTO";
 
     // constant listener handler names
     public static final String LISTENER_HANDLER = "listenerHandler";
-    public static final String READ_TIMEOUT_HANDLER = "readTimeoutHandler";
-    public static final String WRITE_TIMEOUT_HANDLER = "writeTimeoutHandler";
     public static final String CLIENT_HANDLER = "clientHandler";
     public static final String SSL_HANDLER = "SSL_Handler";
     public static final String SSL_HANDSHAKE_HANDLER = "SSL_handshakeHandler";
     public static final String FLOW_CONTROL_HANDLER = "flowControlHandler";
+    public static final String CHUNKED_WRITE_HANDLER = "chunkedWriteHandler";
+    public static final String FRAME_DECODER = "frameDecoder";
+    public static final String FRAME_ENCODER = "frameEncoder";
+    public static final long INBOUND_BUFFER_HIGH_WATER_MARK = 256 * 1024;
+    public static final long INBOUND_BUFFER_LOW_WATER_MARK = 64 * 1024;
 
 
     // Remote method names and method param types
     public static final String ON_BYTES = "onBytes";
+    public static final String ON_BYTES_BATCH = "onBytesBatch";
     public static final String ON_ERROR = "onError";
     public static final String ON_CONNECT = "onConnect";
     public static final String ON_CLOSE = "onClose";
@@ -56,6 +125,7 @@ public class Constants {
     public static final String CHANNEL = "channel";
     public static final String CALLER_LOCAL_PORT = "localPort";
     public static final String CALLER_LOCAL_HOST = "localHost";
+    public static final String CALLER_REMOTE_ADDRESS = "remoteAddress";
 
     // Constants used for adding native data
     public static final String LISTENER = "listener";
@@ -64,6 +134,7 @@ public class Constants {
     public static final String SERVICE = "Service";
     public static final String CLIENT = "Client";
     public static final String CONNECTION_SERVICE = "ConnectionService";
+    public static final String CONNECTION_CONTEXT = "ConnectionContext";
 
     // Constants related to secureSocket configuration
     public static final String PKCS_STORE_TYPE = "PKCS12";
@@ -95,7 +166,8 @@ public class Constants {
      */
     public enum ErrorType {
 
-        Error("Error");
+        Error("Error"),
+        WriteQueueFullError("WriteQueueFullError");
 
         private String errorType;
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.Channel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Deadline} is a timeout of a channel operation. It is armed when the operation starts and disarmed when the
+ * operation completes, and invokes the expiry action on the event loop of the channel if the operation does not
+ * complete in time. A deadline is reused by the operations which run one after the other, such as the reads of a
+ * client. The writes of a channel share a single deadline, which the write queue arms for its oldest write.
+ *
+ * Arming a deadline allocates only the timeout handle of the timer, the deadline itself is the task of the timer and
+ * of the event loop.
+ */
+public class Deadline implements TimerTask, Runnable {
+
+    // A single timer serves the deadlines of all the channels. Its tick bounds the precision of the deadlines.
+    private static final Timer TIMER = new HashedWheelTimer(new DefaultThreadFactory("tcp-deadline-timer", true),
+            10, TimeUnit.MILLISECONDS);
+
+    private final Runnable expiryAction;
+    private volatile Channel channel;
+    private volatile Timeout timeout;
+
+    public Deadline(Runnable expiryAction) {
+        this.expiryAction = expiryAction;
+    }
+
+    public void arm(Channel channel, long timeoutInNanos) {
+        disarm();
+        if (timeoutInNanos > 0) {
+            this.channel = channel;
+            timeout = TIMER.newTimeout(this, timeoutInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public boolean isArmed() {
+        return timeout != null;
+    }
+
+    public void disarm() {
+        Timeout armedTimeout = timeout;
+        if (armedTimeout != null) {
+            timeout = null;
+            armedTimeout.cancel();
+        }
+    }
+
+    @Override
+    public void run(Timeout expiredTimeout) {
+        if (timeout == expiredTimeout) {
+            Utils.executeOnEventLoop(channel, this);
+        }
+    }
+
+    @Override
+    public void run() {
+        // The deadline may have been disarmed or armed again since the timeout expired
+        Timeout expiredTimeout = timeout;
+        if (expiredTimeout != null && expiredTimeout.isExpired()) {
+            timeout = null;
+            expiryAction.run();
+        }
+    }
+}
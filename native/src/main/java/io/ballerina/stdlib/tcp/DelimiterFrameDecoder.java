@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.util.ByteProcessor;
+
+import java.util.List;
+
+/**
+ * {@link DelimiterFrameDecoder} splits the received data into the frames terminated by a delimiter. The received
+ * buffers are scanned in place and the frames are slices of them, hence the data is not copied while decoding. A
+ * delimiter of a single line feed also matches a carriage return followed by a line feed.
+ */
+public class DelimiterFrameDecoder extends ByteToMessageDecoder {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final byte[] delimiter;
+    private final int maxFrameLength;
+    private final boolean stripDelimiter;
+    private final boolean isLineDelimiter;
+    private final int maxDelimiterLength;
+    private final ByteProcessor findFirstDelimiterByte;
+    // Number of the received bytes which are already scanned without finding the delimiter
+    private int scannedBytes;
+    private int delimiterLength;
+    private boolean isDiscarding;
+
+    DelimiterFrameDecoder(byte[] delimiter, int maxFrameLength, boolean stripDelimiter) {
+        this.delimiter = delimiter;
+        this.maxFrameLength = maxFrameLength;
+        this.stripDelimiter = stripDelimiter;
+        this.isLineDelimiter = delimiter.length == 1 && delimiter[0] == LF;
+        this.maxDelimiterLength = isLineDelimiter ? 2 : delimiter.length;
+        this.findFirstDelimiterByte = new ByteProcessor.IndexOfProcessor(delimiter[0]);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        int delimiterIndex = indexOfDelimiter(in);
+        if (delimiterIndex < 0) {
+            // The last bytes may be the start of a delimiter, hence they are kept while discarding
+            int frameBytes = in.readableBytes() - (maxDelimiterLength - 1);
+            if (isDiscarding) {
+                skipScannedBytes(in, Math.max(frameBytes, 0));
+            } else if (frameBytes > maxFrameLength) {
+                skipScannedBytes(in, frameBytes);
+                isDiscarding = true;
+                ctx.fireExceptionCaught(new TooLongFrameException("Frame length exceeds " + maxFrameLength
+                        + " bytes"));
+            }
+            return;
+        }
+        int frameLength = delimiterIndex - in.readerIndex();
+        scannedBytes = 0;
+        if (isDiscarding) {
+            // The rest of a too long frame is dropped
+            in.skipBytes(frameLength + delimiterLength);
+            isDiscarding = false;
+        } else if (frameLength > maxFrameLength) {
+            // The error is reported without throwing, hence the frames after the dropped one are still decoded
+            in.skipBytes(frameLength + delimiterLength);
+            ctx.fireExceptionCaught(new TooLongFrameException("Frame length " + frameLength + " exceeds "
+                    + maxFrameLength + " bytes"));
+        } else if (stripDelimiter) {
+            out.add(in.readRetainedSlice(frameLength));
+            in.skipBytes(delimiterLength);
+        } else {
+            out.add(in.readRetainedSlice(frameLength + delimiterLength));
+        }
+    }
+
+    // Returns the index of the first delimiter after the scanned bytes, or -1 if the delimiter is not received yet
+    private int indexOfDelimiter(ByteBuf in) {
+        int index = in.readerIndex() + scannedBytes;
+        int end = in.writerIndex();
+        while (index < end) {
+            int firstByteIndex = in.forEachByte(index, end - index, findFirstDelimiterByte);
+            if (firstByteIndex < 0) {
+                break;
+            }
+            if (isLineDelimiter) {
+                boolean hasCarriageReturn = firstByteIndex > in.readerIndex() && in.getByte(firstByteIndex - 1) == CR;
+                delimiterLength = hasCarriageReturn ? 2 : 1;
+                return hasCarriageReturn ? firstByteIndex - 1 : firstByteIndex;
+            }
+            if (firstByteIndex + delimiter.length > end) {
+                // The rest of the delimiter is not received yet, hence the scan resumes from its first byte
+                scannedBytes = firstByteIndex - in.readerIndex();
+                return -1;
+            }
+            if (isDelimiterAt(in, firstByteIndex)) {
+                delimiterLength = delimiter.length;
+                return firstByteIndex;
+            }
+            index = firstByteIndex + 1;
+        }
+        scannedBytes = end - in.readerIndex();
+        return -1;
+    }
+
+    private boolean isDelimiterAt(ByteBuf in, int index) {
+        for (int i = 1; i < delimiter.length; i++) {
+            if (in.getByte(index + i) != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipScannedBytes(ByteBuf in, int length) {
+        in.skipBytes(length);
+        scannedBytes = Math.max(scannedBytes - length, 0);
+    }
+}
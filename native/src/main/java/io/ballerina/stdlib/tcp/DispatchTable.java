@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DispatchTable} holds the remote methods of a service type, whether they can be run concurrently and the
+ * parameters of the onBytes or onBytesBatch method. The table is resolved once per service type and reused for every
+ * dispatch to the services of the type.
+ */
+public class DispatchTable {
+
+    private static final Map<ObjectType, DispatchTable> DISPATCH_TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Kinds of the arguments passed to the onBytes or onBytesBatch method.
+     */
+    public enum OnBytesParameter {
+        DATA,
+        CALLER
+    }
+
+    private final boolean hasOnBytes;
+    private final boolean hasOnBytesBatch;
+    private final boolean hasOnError;
+    private final boolean hasOnClose;
+    private final Map<String, Type> returnTypes = new HashMap<>();
+    private final Map<String, Boolean> isolatedMethods = new HashMap<>();
+    private OnBytesParameter[] onBytesParameters = new OnBytesParameter[0];
+    private int onBytesParameterCount;
+
+    private DispatchTable(ObjectType serviceType) {
+        boolean isOnBytesFound = false;
+        boolean isOnBytesBatchFound = false;
+        boolean isOnErrorFound = false;
+        boolean isOnCloseFound = false;
+        for (MethodType method : serviceType.getMethods()) {
+            returnTypes.put(method.getName(), method.getType().getReturnType());
+            // A method of a non isolated service may access the mutable fields of the service without a lock
+            isolatedMethods.put(method.getName(), serviceType.isIsolated() && serviceType.isIsolated(method.getName()));
+            switch (method.getName()) {
+                case Constants.ON_BYTES:
+                    isOnBytesFound = true;
+                    if (!isOnBytesBatchFound) {
+                        setOnBytesParameters(method.getType().getParameterTypes());
+                    }
+                    break;
+                case Constants.ON_BYTES_BATCH:
+                    // The chunks are passed to onBytesBatch instead of onBytes when a service has both
+                    isOnBytesBatchFound = true;
+                    setOnBytesParameters(method.getType().getParameterTypes());
+                    break;
+                case Constants.ON_ERROR:
+                    isOnErrorFound = true;
+                    break;
+                case Constants.ON_CLOSE:
+                    isOnCloseFound = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.hasOnBytes = isOnBytesFound;
+        this.hasOnBytesBatch = isOnBytesBatchFound;
+        this.hasOnError = isOnErrorFound;
+        this.hasOnClose = isOnCloseFound;
+    }
+
+    public static DispatchTable of(ObjectType serviceType) {
+        return DISPATCH_TABLES.computeIfAbsent(serviceType, DispatchTable::new);
+    }
+
+    private void setOnBytesParameters(Type[] parameterTypes) {
+        List<OnBytesParameter> parameters = new ArrayList<>();
+        for (Type parameterType : parameterTypes) {
+            switch (parameterType.getTag()) {
+                case TypeTags.INTERSECTION_TAG:
+                    parameters.add(OnBytesParameter.DATA);
+                    break;
+                case TypeTags.OBJECT_TYPE_TAG:
+                    parameters.add(OnBytesParameter.CALLER);
+                    break;
+                default:
+                    break;
+            }
+        }
+        onBytesParameters = parameters.toArray(new OnBytesParameter[0]);
+        onBytesParameterCount = parameterTypes.length;
+    }
+
+    public boolean hasOnBytes() {
+        return hasOnBytes;
+    }
+
+    public boolean hasOnBytesBatch() {
+        return hasOnBytesBatch;
+    }
+
+    public boolean hasOnError() {
+        return hasOnError;
+    }
+
+    public boolean hasOnClose() {
+        return hasOnClose;
+    }
+
+    public Type getReturnType(String methodName) {
+        return returnTypes.get(methodName);
+    }
+
+    public boolean isIsolated(String methodName) {
+        return isolatedMethods.getOrDefault(methodName, false);
+    }
+
+    public OnBytesParameter[] getOnBytesParameters() {
+        return onBytesParameters;
+    }
+
+    public int getOnBytesParameterCount() {
+        return onBytesParameterCount;
+    }
+}
@@ -18,21 +18,16 @@
 
 package io.ballerina.stdlib.tcp;
 
-import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.netty.buffer.ByteBuf;
-import io.netty.channel.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetSocketAddress;
-import java.util.Arrays;
-
 /**
  * Dispatch async methods.
  */
@@ -40,53 +35,86 @@ public class Dispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(Dispatcher.class);
 
-    private static void invokeOnBytes(TcpService tcpService, ByteBuf buffer, Channel channel, Type[] parameterTypes) {
+    private static void invokeOnBytes(ConnectionContext connection, ByteBuf buffer, DispatchTable dispatchTable) {
+        try {
+            byte[] byteContent = new byte[buffer.readableBytes()];
+            buffer.readBytes(byteContent);
+            Object[] params = getOnBytesSignature(ValueCreator.createArrayValue(byteContent), connection,
+                    dispatchTable);
+            invokeMethodAsync(connection, connection.getConnectionService(), dispatchTable, Constants.ON_BYTES,
+                    TcpCallback.forOnBytes(connection), params);
+            // Counted once submitted, as a method which fails to start never completes
+            connection.onBytesDispatched();
+        } catch (BError e) {
+            Dispatcher.invokeOnError(connection, e.getMessage());
+        }
+    }
+
+    private static void addToBatch(ConnectionContext connection, ByteBuf buffer, DispatchTable dispatchTable) {
+        ChunkBatch chunkBatch = connection.getChunkBatch();
+        if (!chunkBatch.canAdd(buffer.readableBytes())) {
+            invokeOnBytesBatch(connection, dispatchTable);
+        }
+        byte[] chunk = new byte[buffer.readableBytes()];
+        buffer.readBytes(chunk);
+        chunkBatch.add(chunk);
+        if (chunkBatch.isFull()) {
+            invokeOnBytesBatch(connection, dispatchTable);
+        }
+    }
+
+    private static void invokeOnBytesBatch(ConnectionContext connection, DispatchTable dispatchTable) {
         try {
-            Object[] params = getOnBytesSignature(buffer, channel, tcpService, parameterTypes);
-            tcpService.getRuntime().invokeMethodAsync(tcpService.getConnectionService(), Constants.ON_BYTES, null, null,
-                    new TcpCallback(tcpService, false, channel), params);
+            Object[] params = getOnBytesSignature(connection.getChunkBatch().take(), connection, dispatchTable);
+            invokeMethodAsync(connection, connection.getConnectionService(), dispatchTable, Constants.ON_BYTES_BATCH,
+                    TcpCallback.forOnBytes(connection), params);
+            connection.onBytesDispatched();
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
-    public static void invokeOnError(TcpService tcpService, String message) {
-        if (tcpService.getConnectionService() == null) {
+    public static void invokeOnError(ConnectionContext connection, String message) {
+        if (connection.getConnectionService() == null) {
             return;
         }
         try {
-            MethodType methodType = Arrays.stream(tcpService.getConnectionService().getType().getMethods())
-                    .filter(m -> m.getName().equals(Constants.ON_ERROR)).findFirst().orElse(null);
-            if (methodType != null) {
+            DispatchTable dispatchTable = connection.getDispatchTable();
+            if (dispatchTable.hasOnError()) {
                 Object[] params = getOnErrorSignature(message);
-                tcpService.getRuntime().invokeMethodAsync(tcpService.getConnectionService(), Constants.ON_ERROR,
-                        null, null, new TcpCallback(tcpService), params);
+                invokeMethodAsync(connection, connection.getConnectionService(), dispatchTable, Constants.ON_ERROR,
+                        new TcpCallback(connection), params);
             }
         } catch (Throwable t) {
             log.error("Error while executing onError function", t);
         }
     }
 
-    private static Object[] getOnBytesSignature(ByteBuf buffer, Channel channel, TcpService tcpService,
-                                                Type[] parameterTypes) {
-        byte[] byteContent = new byte[buffer.readableBytes()];
-        buffer.readBytes(byteContent);
-        Object[] bValues = new Object[parameterTypes.length * 2];
+    // Isolated methods of isolated services are run concurrently, hence the connections of such a service are served
+    // by all the threads of the runtime. The methods of the other services are run one at a time on the service.
+    private static void invokeMethodAsync(ConnectionContext connection, BObject service, DispatchTable dispatchTable,
+                                          String methodName, Callback callback, Object... params) {
+        Type returnType = dispatchTable.getReturnType(methodName);
+        if (dispatchTable.isIsolated(methodName)) {
+            connection.getRuntime().invokeMethodAsyncConcurrently(service, methodName, null, null, callback, null,
+                    returnType, params);
+        } else {
+            connection.getRuntime().invokeMethodAsyncSequentially(service, methodName, null, null, callback, null,
+                    returnType, params);
+        }
+    }
+
+    private static Object[] getOnBytesSignature(BArray data, ConnectionContext connection,
+                                                DispatchTable dispatchTable) {
+        Object[] bValues = new Object[dispatchTable.getOnBytesParameterCount() * 2];
         int index = 0;
-        for (Type param : parameterTypes) {
-            int paramTag = param.getTag();
-            switch (paramTag) {
-                case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = ValueCreator.createArrayValue(byteContent);
-                    bValues[index++] = true;
-                    break;
-                case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(channel, tcpService);
-                    bValues[index++] = true;
-                    break;
-                default:
-                    break;
+        for (DispatchTable.OnBytesParameter param : dispatchTable.getOnBytesParameters()) {
+            if (param == DispatchTable.OnBytesParameter.DATA) {
+                bValues[index++] = data;
+            } else {
+                bValues[index++] = connection.getCaller();
             }
+            bValues[index++] = true;
         }
         return bValues;
     }
@@ -95,65 +123,53 @@ public class Dispatcher {
         return new Object[]{Utils.createTcpError(message), true};
     }
 
-    private static BObject createClient(Channel channel, TcpService tcpService) {
-        InetSocketAddress remoteAddress = (InetSocketAddress) channel.remoteAddress();
-        InetSocketAddress localAddress = (InetSocketAddress) channel.localAddress();
-        final BObject caller = ValueCreator.createObjectValue(Utils.getTcpPackage(), Constants.CALLER);
-        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_PORT), remoteAddress.getPort());
-        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_HOST),
-                StringUtils.fromString(remoteAddress.getHostName()));
-        caller.set(StringUtils.fromString(Constants.CALLER_LOCAL_PORT), localAddress.getPort());
-        caller.set(StringUtils.fromString(Constants.CALLER_LOCAL_HOST),
-                StringUtils.fromString(localAddress.getHostName()));
-        caller.addNativeData(Constants.CHANNEL, channel);
-        caller.addNativeData(Constants.SERVICE, tcpService);
-        return caller;
+    public static void invokeRead(ConnectionContext connection, ByteBuf buffer) {
+        DispatchTable dispatchTable = connection.getDispatchTable();
+        if (dispatchTable.hasOnBytesBatch()) {
+            Dispatcher.addToBatch(connection, buffer, dispatchTable);
+        } else if (dispatchTable.hasOnBytes()) {
+            Dispatcher.invokeOnBytes(connection, buffer, dispatchTable);
+        }
     }
 
-    public static void invokeRead(TcpService tcpService, ByteBuf buffer, Channel channel) {
-        for (MethodType method : tcpService.getConnectionService().getType().getMethods()) {
-            switch (method.getName()) {
-                case Constants.ON_BYTES:
-                    Dispatcher.invokeOnBytes(tcpService, buffer, channel, method.getType().getParameterTypes());
-                    break;
-                default:
-                    break;
-            }
+    // The chunks collected within a read cycle are passed to onBytesBatch once the cycle completes
+    public static void invokeReadComplete(ConnectionContext connection) {
+        DispatchTable dispatchTable = connection.getDispatchTable();
+        if (dispatchTable != null && dispatchTable.hasOnBytesBatch() && !connection.getChunkBatch().isEmpty()) {
+            Dispatcher.invokeOnBytesBatch(connection, dispatchTable);
         }
     }
 
-    public static void invokeOnConnect(TcpService tcpService, Channel channel) {
+    public static void invokeOnConnect(ConnectionContext connection) {
         try {
-            Object[] params = getOnConnectSignature(channel, tcpService);
-            tcpService.getRuntime().invokeMethodAsync(tcpService.getService(), Constants.ON_CONNECT,
-                    null, null, new TcpCallback(tcpService, true, channel), params);
+            Object[] params = getOnConnectSignature(connection);
+            invokeMethodAsync(connection, connection.getService(), connection.getServiceDispatchTable(),
+                    Constants.ON_CONNECT, new TcpCallback(connection, true), params);
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
-    private static Object[] getOnConnectSignature(Channel channel, TcpService tcpService) {
-        BObject caller = createClient(channel, tcpService);
+    private static Object[] getOnConnectSignature(ConnectionContext connection) {
+        BObject caller = connection.getCaller();
         return new Object[]{caller, true};
     }
 
-    public static void invokeOnClose(TcpService tcpService) {
-        if (tcpService.getConnectionService() == null) {
+    public static void invokeOnClose(ConnectionContext connection) {
+        if (connection.getConnectionService() == null || !connection.markCloseDispatched()) {
             return;
         }
         try {
-            MethodType methodType = Arrays.stream(tcpService.getConnectionService().getType().getMethods())
-                    .filter(m -> m.getName().equals(Constants.ON_CLOSE)).findFirst().orElse(null);
-            if (methodType != null) {
+            DispatchTable dispatchTable = connection.getDispatchTable();
+            if (dispatchTable.hasOnClose()) {
                 Object[] params = {};
-                tcpService.getRuntime().invokeMethodAsync(tcpService.getConnectionService(), Constants.ON_CLOSE,
-                        null, null, new TcpCallback(), params);
+                invokeMethodAsync(connection, connection.getConnectionService(), dispatchTable, Constants.ON_CLOSE,
+                        new TcpCallback(), params);
             }
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
     private Dispatcher() {}
 }
-
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.Future;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link FileWriteFlowController} writes a region of a file to a channel without copying the file to the heap.
+ */
+public class FileWriteFlowController extends WriteFlowController {
+
+    // Matches the maximum TLS record size, hence each chunk is encrypted into a single record
+    private static final int FILE_CHUNK_SIZE = 16 * 1024;
+
+    private final File file;
+    private final long offset;
+    private final long length;
+
+    FileWriteFlowController(File file, long offset, long length, Future callback, AtomicBoolean futureCompleted) {
+        super(null, callback, futureCompleted);
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public long getPendingBytes() {
+        return length;
+    }
+
+    @Override
+    public ChannelFuture writeData(Channel channel) {
+        if (isZeroCopySupported(channel)) {
+            // The file is opened lazily and closed once the region is released after the write
+            return channel.write(new DefaultFileRegion(file, offset, length));
+        }
+        // Encrypted data and transports without sendfile support need the file to be read in chunks
+        ChunkedFile chunkedFile;
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            chunkedFile = new ChunkedFile(randomAccessFile, offset, length, FILE_CHUNK_SIZE);
+        } catch (IOException e) {
+            closeQuietly(randomAccessFile);
+            return channel.newFailedFuture(e);
+        }
+        if (channel.pipeline().get(FileChunkWriteHandler.class) == null) {
+            // The content of the file is written as it is, hence the chunks must not pass the frame encoder
+            if (channel.pipeline().get(Constants.FRAME_ENCODER) != null) {
+                channel.pipeline().addBefore(Constants.FRAME_ENCODER, Constants.CHUNKED_WRITE_HANDLER,
+                        new FileChunkWriteHandler());
+            } else {
+                channel.pipeline().addLast(Constants.CHUNKED_WRITE_HANDLER, new FileChunkWriteHandler());
+            }
+        }
+        return channel.write(chunkedFile);
+    }
+
+    private static void closeQuietly(RandomAccessFile randomAccessFile) {
+        if (randomAccessFile == null) {
+            return;
+        }
+        try {
+            randomAccessFile.close();
+        } catch (IOException e) {
+            // The file is only read, hence nothing is lost if it fails to close
+        }
+    }
+
+    private static boolean isZeroCopySupported(Channel channel) {
+        return channel.pipeline().get(SslHandler.class) == null
+                && (channel instanceof EpollSocketChannel || channel instanceof NioSocketChannel);
+    }
+
+    /**
+     * Reads the files written in chunks. Every write passes the handler while it is in the pipeline, hence it removes
+     * itself once all the writes which passed it are complete, which also means none of them is held in its queue.
+     */
+    private static class FileChunkWriteHandler extends ChunkedWriteHandler {
+
+        // Confined to the event loop of the channel
+        private int pendingWrites;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            ChannelPromise trackedPromise = promise.unvoid();
+            pendingWrites++;
+            trackedPromise.addListener(future -> {
+                if (--pendingWrites == 0 && ctx.pipeline().context(this) != null) {
+                    ctx.pipeline().remove(this);
+                }
+            });
+            super.write(ctx, msg, trackedPromise);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+
+import java.nio.ByteOrder;
+
+/**
+ * {@link FramingConfig} holds the layout of the frames of a connection. The frames are reassembled by a decoder at
+ * the start of the pipeline, hence the handlers of the connection receive whole frames.
+ */
+public abstract class FramingConfig {
+
+    final int maxFrameLength;
+
+    private FramingConfig(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    /**
+     * Creates the frame layout of the given framing configuration.
+     *
+     * @param config length field or delimiter framing configuration of a client or a listener
+     * @return the frame layout
+     * @throws IllegalArgumentException if the configured layout is invalid
+     */
+    public static FramingConfig fromConfig(BMap<BString, Object> config) {
+        long maxFrameLength = config.getIntValue(Constants.FRAMING_MAX_FRAME_LENGTH);
+        if (maxFrameLength <= 0 || maxFrameLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Framing `maxFrameLength` must be a positive integer not greater "
+                    + "than " + Integer.MAX_VALUE);
+        }
+        if (config.containsKey(Constants.FRAMING_DELIMITER)) {
+            return DelimiterFraming.fromConfig(config, (int) maxFrameLength);
+        }
+        return LengthFieldFraming.fromConfig(config, (int) maxFrameLength);
+    }
+
+    /**
+     * Adds the frame decoder and encoder to the end of the given pipeline.
+     *
+     * @param pipeline pipeline of a connection
+     */
+    public abstract void addFrameHandlers(ChannelPipeline pipeline);
+
+    private static class LengthFieldFraming extends FramingConfig {
+
+        private final int lengthFieldOffset;
+        private final int lengthFieldLength;
+        private final int lengthAdjustment;
+        private final ByteOrder byteOrder;
+
+        private LengthFieldFraming(int maxFrameLength, int lengthFieldOffset, int lengthFieldLength,
+                                   int lengthAdjustment, ByteOrder byteOrder) {
+            super(maxFrameLength);
+            this.lengthFieldOffset = lengthFieldOffset;
+            this.lengthFieldLength = lengthFieldLength;
+            this.lengthAdjustment = lengthAdjustment;
+            this.byteOrder = byteOrder;
+        }
+
+        private static FramingConfig fromConfig(BMap<BString, Object> config, int maxFrameLength) {
+            long lengthFieldOffset = config.getIntValue(Constants.FRAMING_LENGTH_FIELD_OFFSET);
+            long lengthFieldLength = config.getIntValue(Constants.FRAMING_LENGTH_FIELD_LENGTH);
+            long lengthAdjustment = config.getIntValue(Constants.FRAMING_LENGTH_ADJUSTMENT);
+            if (lengthFieldLength != 1 && lengthFieldLength != 2 && lengthFieldLength != 3 && lengthFieldLength != 4
+                    && lengthFieldLength != 8) {
+                throw new IllegalArgumentException("Framing `lengthFieldLength` must be one of 1, 2, 3, 4 or 8");
+            }
+            if (lengthFieldOffset < 0 || lengthFieldOffset > maxFrameLength - lengthFieldLength) {
+                throw new IllegalArgumentException("Framing `lengthFieldOffset` must be a non-negative integer "
+                        + "which fits the length field within the `maxFrameLength`");
+            }
+            if (Math.abs(lengthAdjustment) > maxFrameLength) {
+                throw new IllegalArgumentException("Framing `lengthAdjustment` must not exceed the "
+                        + "`maxFrameLength`");
+            }
+            ByteOrder byteOrder = Constants.BYTE_ORDER_LITTLE_ENDIAN.equals(
+                    config.getStringValue(Constants.FRAMING_BYTE_ORDER).getValue())
+                    ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            return new LengthFieldFraming(maxFrameLength, (int) lengthFieldOffset, (int) lengthFieldLength,
+                    (int) lengthAdjustment, byteOrder);
+        }
+
+        @Override
+        public void addFrameHandlers(ChannelPipeline pipeline) {
+            // A length field at the start of the frame is only a prefix of the data, hence it is stripped from the
+            // received frames and prepended to the written data. Otherwise the header before the length field
+            // belongs to the data and the whole frames are read and written.
+            boolean isPrefix = lengthFieldOffset == 0;
+            pipeline.addLast(Constants.FRAME_DECODER, new LengthFieldBasedFrameDecoder(byteOrder, maxFrameLength,
+                    lengthFieldOffset, lengthFieldLength, lengthAdjustment, isPrefix ? lengthFieldLength : 0, true));
+            if (isPrefix) {
+                // The decoder adds the adjustment to the length field, hence the encoder subtracts it
+                pipeline.addLast(Constants.FRAME_ENCODER, new LengthFieldPrepender(byteOrder, lengthFieldLength,
+                        -lengthAdjustment, false));
+            }
+        }
+    }
+
+    private static class DelimiterFraming extends FramingConfig {
+
+        private final byte[] delimiter;
+        private final boolean stripDelimiter;
+
+        private DelimiterFraming(int maxFrameLength, byte[] delimiter, boolean stripDelimiter) {
+            super(maxFrameLength);
+            this.delimiter = delimiter;
+            this.stripDelimiter = stripDelimiter;
+        }
+
+        private static FramingConfig fromConfig(BMap<BString, Object> config, int maxFrameLength) {
+            byte[] delimiter = config.getArrayValue(Constants.FRAMING_DELIMITER).getBytes();
+            if (delimiter.length == 0) {
+                throw new IllegalArgumentException("Framing `delimiter` must not be empty");
+            }
+            return new DelimiterFraming(maxFrameLength, delimiter,
+                    config.getBooleanValue(Constants.FRAMING_STRIP_DELIMITER));
+        }
+
+        @Override
+        public void addFrameHandlers(ChannelPipeline pipeline) {
+            pipeline.addLast(Constants.FRAME_DECODER, new DelimiterFrameDecoder(delimiter, maxFrameLength,
+                    stripDelimiter));
+        }
+    }
+}
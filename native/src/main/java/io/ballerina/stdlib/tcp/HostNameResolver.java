@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.InetAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link HostNameResolver} looks up the host names of the connection addresses. A reverse lookup may block for a
+ * long time, hence it runs on dedicated threads instead of the event loops or the strands of the callers.
+ */
+public class HostNameResolver {
+
+    // The lookups beyond the pool size wait in the queue rather than each taking a thread of its own
+    private static final int RESOLVER_THREADS = 4;
+    private static final ExecutorService RESOLVER_EXECUTOR = Executors.newFixedThreadPool(RESOLVER_THREADS,
+            new DefaultThreadFactory("tcp-host-name-resolver", true));
+
+    /**
+     * Resolves the host name of the given address and completes the given callback with it.
+     *
+     * @param address the address to be resolved
+     * @param callback callback of the strand waiting for the host name
+     */
+    public static void resolve(InetAddress address, Future callback) {
+        RESOLVER_EXECUTOR.execute(() -> callback.complete(StringUtils.fromString(address.getHostName())));
+    }
+
+    private HostNameResolver() {}
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * {@link InboundBuffer} holds the data read ahead from a client channel. The channel keeps reading until the
+ * buffered bytes reach the high water mark and resumes reading once they drop to the low water mark. A read
+ * returns the buffered data right away and waits for the channel only when the buffer is empty, or when the buffer
+ * does not contain the delimiter of a read until a delimiter.
+ *
+ * The buffer holds the blocks read by the channel as they are, and a read copies the data once from the blocks into
+ * its result. A read which consumes only a part of a block advances the reader index of the block, hence the rest of
+ * the block is not copied again.
+ */
+public class InboundBuffer {
+
+    private final Channel channel;
+    private final long highWaterMark;
+    private final long lowWaterMark;
+    private final Deadline readDeadline = new Deadline(this::onReadTimeout);
+    private final Queue<ByteBuf> blocks = new ArrayDeque<>();
+    private long bufferedBytes;
+    private Future waitingCallback;
+    // Scan of the buffered data of the read waiting for a delimiter
+    private DelimiterScan waitingScan;
+    // Number of bytes of the read waiting for an exact length
+    private long waitingLength;
+    private boolean isEndAsNil;
+    private boolean isClosed;
+    private BError error;
+
+    InboundBuffer(Channel channel, long highWaterMark, long lowWaterMark) {
+        this.channel = channel;
+        this.highWaterMark = highWaterMark;
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    void start() {
+        channel.config().setAutoRead(true);
+    }
+
+    /**
+     * Reads the next block of data.
+     *
+     * @param env environment of the reading strand, which is marked as async if the buffer is empty
+     * @param isEndAsNil whether the end of the data is returned as nil instead of an error
+     * @param readTimeoutInNano time to wait for data if the buffer is empty
+     * @return the next block, the end of the data or an error, unless the strand waits for the data
+     */
+    public Object read(Environment env, boolean isEndAsNil, long readTimeoutInNano) {
+        synchronized (this) {
+            if (blocks.isEmpty() && error == null && !isClosed) {
+                waitingCallback = env.markAsync();
+                this.isEndAsNil = isEndAsNil;
+                readDeadline.arm(channel, readTimeoutInNano);
+                return null;
+            }
+        }
+        return next(isEndAsNil);
+    }
+
+    /**
+     * Reads the data up to the given delimiter. The delimiter is consumed but not returned. As the data is buffered
+     * until the delimiter is received, the read fails if the delimiter is not found within the high water mark.
+     *
+     * @param env environment of the reading strand, which is marked as async if the delimiter is not buffered
+     * @param delimiter the bytes which terminate the data
+     * @param readTimeoutInNano time to wait for the delimiter if it is not buffered
+     * @return the data before the delimiter or an error, unless the strand waits for the delimiter
+     */
+    public synchronized Object readUntil(Environment env, byte[] delimiter, long readTimeoutInNano) {
+        DelimiterScan scan = new DelimiterScan(delimiter);
+        Object data = takeUntil(scan);
+        if (data != null) {
+            return data;
+        }
+        if (error == null && !isClosed && bufferedBytes < highWaterMark) {
+            waitingCallback = env.markAsync();
+            waitingScan = scan;
+            readDeadline.arm(channel, readTimeoutInNano);
+            return null;
+        }
+        return getUntilFailure();
+    }
+
+    /**
+     * Reads exactly the given number of bytes. The bytes are copied once from the buffered blocks into the result,
+     * and the buffer keeps reading beyond the high water mark until the given number of bytes is buffered.
+     *
+     * @param env environment of the reading strand, which is marked as async if not enough data is buffered
+     * @param length the number of bytes to be read
+     * @param readTimeoutInNano time to wait for the data if not enough data is buffered
+     * @return the data or an error, unless the strand waits for the data
+     */
+    public synchronized Object readExactly(Environment env, long length, long readTimeoutInNano) {
+        if (bufferedBytes >= length) {
+            return ValueCreator.createReadonlyArrayValue(take(length, 0));
+        }
+        if (error == null && !isClosed) {
+            waitingCallback = env.markAsync();
+            waitingLength = length;
+            readDeadline.arm(channel, readTimeoutInNano);
+            // The buffer may have stopped reading at the high water mark
+            channel.config().setAutoRead(true);
+            return null;
+        }
+        return getEndFailure();
+    }
+
+    // Invoked on the event loop of the channel, the buffer retains the block if it keeps it
+    void add(ByteBuf block) {
+        Future callback = null;
+        Object result = null;
+        synchronized (this) {
+            if (waitingCallback != null && waitingScan == null && waitingLength == 0) {
+                callback = takeWaitingCallback();
+                result = Utils.returnReadOnlyBytes(block);
+            } else {
+                blocks.add(block.retain());
+                bufferedBytes += block.readableBytes();
+                if (waitingScan != null) {
+                    result = takeUntil(waitingScan);
+                    if (result == null && bufferedBytes >= highWaterMark) {
+                        result = getUntilFailure();
+                    }
+                    if (result != null) {
+                        callback = takeWaitingCallback();
+                    }
+                } else if (waitingLength > 0 && bufferedBytes >= waitingLength) {
+                    result = ValueCreator.createReadonlyArrayValue(take(waitingLength, 0));
+                    callback = takeWaitingCallback();
+                }
+                if (bufferedBytes >= Math.max(highWaterMark, waitingLength)) {
+                    channel.config().setAutoRead(false);
+                }
+            }
+        }
+        if (callback != null) {
+            callback.complete(result);
+        }
+    }
+
+    // Invoked on the event loop of the channel when the channel is closed
+    void close() {
+        completeWaitingRead(() -> {
+            isClosed = true;
+            detachBlocks();
+        });
+    }
+
+    // Invoked on the event loop of the channel when the channel fails
+    void fail(BError error) {
+        completeWaitingRead(() -> this.error = error);
+    }
+
+    private void onReadTimeout() {
+        Future callback;
+        synchronized (this) {
+            callback = takeWaitingCallback();
+        }
+        if (callback != null) {
+            callback.complete(Utils.createTcpError("Read timed out"));
+        }
+    }
+
+    private void completeWaitingRead(Runnable stateChange) {
+        Future callback;
+        boolean isWaitingForEndAsNil;
+        boolean isWaitingForDelimiter;
+        boolean isWaitingForLength;
+        synchronized (this) {
+            stateChange.run();
+            isWaitingForEndAsNil = isEndAsNil;
+            isWaitingForDelimiter = waitingScan != null;
+            isWaitingForLength = waitingLength > 0;
+            callback = takeWaitingCallback();
+        }
+        if (callback == null) {
+            return;
+        }
+        // The buffered data is already checked for the delimiter or the length of a waiting read
+        if (isWaitingForDelimiter) {
+            callback.complete(getUntilFailure());
+        } else if (isWaitingForLength) {
+            callback.complete(getEndFailure());
+        } else {
+            callback.complete(next(isWaitingForEndAsNil));
+        }
+    }
+
+    private synchronized Object next(boolean isEndAsNil) {
+        ByteBuf block = blocks.poll();
+        if (block != null) {
+            release(block.readableBytes());
+            Object data = Utils.returnReadOnlyBytes(block);
+            block.release();
+            return data;
+        }
+        if (error != null) {
+            return error;
+        }
+        return isEndAsNil ? null : Utils.createTcpError("Connection closed by the server.");
+    }
+
+    private Object takeUntil(DelimiterScan scan) {
+        long position = 0;
+        for (ByteBuf block : blocks) {
+            int readerIndex = block.readerIndex();
+            int blockBytes = block.readableBytes();
+            for (int i = (int) Math.max(scan.scannedBytes - position, 0); i < blockBytes; i++) {
+                if (scan.isDelimiterEnd(block.getByte(readerIndex + i))) {
+                    return ValueCreator.createReadonlyArrayValue(take(position + i + 1, scan.delimiter.length));
+                }
+            }
+            position += blockBytes;
+        }
+        scan.scannedBytes = position;
+        return null;
+    }
+
+    // Removes the given number of bytes from the buffer and returns them without the trailing delimiter
+    private byte[] take(long length, int delimiterLength) {
+        byte[] data = new byte[(int) (length - delimiterLength)];
+        int copiedBytes = 0;
+        long remainingBytes = length;
+        while (remainingBytes > 0) {
+            ByteBuf block = blocks.peek();
+            int consumedBytes = (int) Math.min(block.readableBytes(), remainingBytes);
+            int dataBytes = Math.min(consumedBytes, data.length - copiedBytes);
+            block.readBytes(data, copiedBytes, dataBytes);
+            // The bytes of the delimiter are skipped
+            block.skipBytes(consumedBytes - dataBytes);
+            copiedBytes += dataBytes;
+            if (!block.isReadable()) {
+                blocks.poll().release();
+            }
+            remainingBytes -= consumedBytes;
+        }
+        release(length);
+        return data;
+    }
+
+    // The blocks hold the memory of the allocator of the channel. Once the channel is closed, the blocks which are
+    // not yet read are copied to the heap, hence the data which is never read does not hold the memory of the pool.
+    private void detachBlocks() {
+        for (int i = blocks.size(); i > 0; i--) {
+            ByteBuf block = blocks.poll();
+            blocks.add(Unpooled.wrappedBuffer(ByteBufUtil.getBytes(block)));
+            block.release();
+        }
+    }
+
+    private void release(long length) {
+        bufferedBytes -= length;
+        if (bufferedBytes <= lowWaterMark && !isClosed) {
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    private synchronized BError getUntilFailure() {
+        if (error != null) {
+            return error;
+        }
+        if (bufferedBytes >= highWaterMark) {
+            return Utils.createTcpError("Delimiter not found within " + highWaterMark + " bytes");
+        }
+        return getEndFailure();
+    }
+
+    private synchronized BError getEndFailure() {
+        return error != null ? error : Utils.createTcpError("Connection closed by the server.");
+    }
+
+    private Future takeWaitingCallback() {
+        Future callback = waitingCallback;
+        if (callback != null) {
+            waitingCallback = null;
+            waitingScan = null;
+            waitingLength = 0;
+            readDeadline.disarm();
+        }
+        return callback;
+    }
+
+    // Matches the delimiter byte by byte with the Knuth-Morris-Pratt algorithm, hence the scan resumes from where
+    // it stopped once more data is buffered
+    private static class DelimiterScan {
+
+        private final byte[] delimiter;
+        // Length of the longest proper prefix of the delimiter which is also a suffix of its first i + 1 bytes
+        private final int[] prefixLengths;
+        private long scannedBytes;
+        private int matchedBytes;
+
+        DelimiterScan(byte[] delimiter) {
+            this.delimiter = delimiter;
+            this.prefixLengths = new int[delimiter.length];
+            for (int i = 1, length = 0; i < delimiter.length; i++) {
+                while (length > 0 && delimiter[i] != delimiter[length]) {
+                    length = prefixLengths[length - 1];
+                }
+                if (delimiter[i] == delimiter[length]) {
+                    length++;
+                }
+                prefixLengths[i] = length;
+            }
+        }
+
+        boolean isDelimiterEnd(byte value) {
+            while (matchedBytes > 0 && value != delimiter[matchedBytes]) {
+                matchedBytes = prefixLengths[matchedBytes - 1];
+            }
+            if (value == delimiter[matchedBytes]) {
+                matchedBytes++;
+            }
+            return matchedBytes == delimiter.length;
+        }
+    }
+}
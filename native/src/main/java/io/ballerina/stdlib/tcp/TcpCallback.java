@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
-import io.netty.channel.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,33 +32,42 @@ public class TcpCallback implements Callback {
 
     private static final Logger log = LoggerFactory.getLogger(TcpCallback.class);
 
-    private Channel channel;
-    private TcpService tcpService;
+    private ConnectionContext connection;
     private boolean isOnConnectInvoked;
+    private boolean isOnBytesInvoked;
 
-    public TcpCallback(TcpService tcpService, boolean isOnConnectInvoked, Channel channel) {
-        this.tcpService = tcpService;
+    public TcpCallback(ConnectionContext connection, boolean isOnConnectInvoked) {
+        this.connection = connection;
         this.isOnConnectInvoked = isOnConnectInvoked;
-        this.channel = channel;
     }
 
-    public TcpCallback(TcpService tcpService) {
-        this.tcpService = tcpService;
+    public TcpCallback(ConnectionContext connection) {
+        this.connection = connection;
         this.isOnConnectInvoked = false;
     }
 
     public TcpCallback() {
     }
 
+    // The completion of an onBytes invocation resumes the reads paused while the invocation is in flight
+    public static TcpCallback forOnBytes(ConnectionContext connection) {
+        TcpCallback callback = new TcpCallback(connection);
+        callback.isOnBytesInvoked = true;
+        return callback;
+    }
+
     @Override
     public void notifySuccess(Object object) {
         if (object instanceof BArray) {
             // call writeBytes if the service returns byte[]
             byte[] byteContent = ((BArray) object).getBytes();
-            TcpListener.send(byteContent, channel, tcpService);
+            TcpListener.send(byteContent, connection);
         } else if (isOnConnectInvoked) {
-            this.tcpService.setConnectionService((BObject) object);
-            TcpListener.resumeRead(channel);
+            connection.setConnectionService((BObject) object);
+            TcpListener.resumeRead(connection.getChannel());
+        }
+        if (isOnBytesInvoked) {
+            connection.onBytesCompleted();
         }
         log.debug("Method successfully dispatched.");
     }
@@ -67,7 +75,10 @@ public class TcpCallback implements Callback {
     @Override
     public void notifyFailure(BError bError) {
         if (!isOnConnectInvoked) {
-            Dispatcher.invokeOnError(tcpService, bError.getMessage());
+            Dispatcher.invokeOnError(connection, bError.getMessage());
+        }
+        if (isOnBytesInvoked) {
+            connection.onBytesCompleted();
         }
 
         if (log.isDebugEnabled()) {
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.AdaptiveRecvByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.EpollChannelOption;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link TcpChannelOptions} holds the netty channel options and the connection settings derived from the client or
+ * listener configuration.
+ */
+public class TcpChannelOptions {
+
+    // Both the allocators take their buffers from the default pool, hence the arenas are not duplicated
+    private static final ByteBufAllocator POOLED_DIRECT_ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+    private static final ByteBufAllocator POOLED_HEAP_ALLOCATOR = new PooledHeapByteBufAllocator();
+
+    // Options of the connection channels
+    private final Map<ChannelOption<Object>, Object> childOptions = new LinkedHashMap<>();
+    // Options of the listening server channel
+    private final Map<ChannelOption<Object>, Object> serverOptions = new LinkedHashMap<>();
+    private WriteQueueConfig writeQueueConfig = WriteQueueConfig.UNBOUNDED;
+    private FramingConfig framingConfig;
+    private int maxInFlightOnBytes = 1;
+    private long callerWriteTimeoutInNanos;
+    private ChunkBatchConfig chunkBatchConfig = ChunkBatchConfig.DEFAULT;
+
+    private TcpChannelOptions() {
+    }
+
+    /**
+     * Creates the channel options of the given client or listener configuration.
+     *
+     * @param config client or listener configuration
+     * @param transport the transport of the client or listener channels
+     * @return the channel options
+     * @throws IllegalArgumentException if a configured option value is invalid or not supported by the transport
+     */
+    public static TcpChannelOptions fromConfig(BMap<BString, Object> config, TcpTransport transport) {
+        TcpChannelOptions channelOptions = new TcpChannelOptions();
+        BMap<BString, Object> socketOptions = (BMap<BString, Object>) config.getMapValue(Constants.SOCKET_OPTIONS);
+        if (socketOptions != null) {
+            channelOptions.setSocketOptions(socketOptions);
+            channelOptions.setLinuxSocketOptions(socketOptions, transport);
+        }
+        BString allocator = config.getStringValue(Constants.CONFIG_ALLOCATOR);
+        if (allocator != null) {
+            channelOptions.putChildOption(ChannelOption.ALLOCATOR, getAllocator(allocator.getValue()));
+        }
+        BMap<BString, Object> receiveBuffer = (BMap<BString, Object>) config
+                .getMapValue(Constants.CONFIG_RECEIVE_BUFFER);
+        if (receiveBuffer != null) {
+            channelOptions.setReceiveBuffer(receiveBuffer);
+        }
+        BMap<BString, Object> writeQueue = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_WRITE_QUEUE);
+        if (writeQueue != null) {
+            channelOptions.writeQueueConfig = WriteQueueConfig.fromConfig(writeQueue);
+        }
+        BMap<BString, Object> framing = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_FRAMING);
+        if (framing != null) {
+            channelOptions.framingConfig = FramingConfig.fromConfig(framing);
+        }
+        if (config.containsKey(Constants.CONFIG_MAX_IN_FLIGHT_ON_BYTES)) {
+            channelOptions.maxInFlightOnBytes = getPositiveInt(config, Constants.CONFIG_MAX_IN_FLIGHT_ON_BYTES);
+        }
+        if (config.containsKey(Constants.CONFIG_CALLER_WRITE_TIMEOUT)) {
+            double writeTimeoutInSec = ((BDecimal) config.get(Constants.CONFIG_CALLER_WRITE_TIMEOUT)).floatValue();
+            channelOptions.callerWriteTimeoutInNanos = (long) (writeTimeoutInSec * 1_000_000_000);
+        }
+        BMap<BString, Object> batch = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_BATCH);
+        if (batch != null) {
+            channelOptions.chunkBatchConfig = ChunkBatchConfig.fromConfig(batch);
+        }
+        return channelOptions;
+    }
+
+    private static ByteBufAllocator getAllocator(String allocator) {
+        switch (allocator) {
+            case Constants.ALLOCATOR_POOLED_DIRECT:
+                return POOLED_DIRECT_ALLOCATOR;
+            case Constants.ALLOCATOR_POOLED_HEAP:
+                return POOLED_HEAP_ALLOCATOR;
+            default:
+                return UnpooledByteBufAllocator.DEFAULT;
+        }
+    }
+
+    private void setReceiveBuffer(BMap<BString, Object> receiveBuffer) {
+        int minimum = getPositiveInt(receiveBuffer, Constants.RECEIVE_BUFFER_MINIMUM);
+        int initial = getPositiveInt(receiveBuffer, Constants.RECEIVE_BUFFER_INITIAL);
+        int maximum = getPositiveInt(receiveBuffer, Constants.RECEIVE_BUFFER_MAXIMUM);
+        if (initial < minimum || maximum < initial) {
+            throw new IllegalArgumentException("Receive buffer sizes must satisfy minimum <= initial <= maximum");
+        }
+        AdaptiveRecvByteBufAllocator recvByteBufAllocator = new AdaptiveRecvByteBufAllocator(minimum, initial,
+                maximum);
+        recvByteBufAllocator.maxMessagesPerRead(getPositiveInt(receiveBuffer,
+                Constants.RECEIVE_BUFFER_MAX_MESSAGES_PER_READ));
+        putChildOption(ChannelOption.RCVBUF_ALLOCATOR, recvByteBufAllocator);
+    }
+
+    private void setSocketOptions(BMap<BString, Object> socketOptions) {
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_NO_DELAY)) {
+            putChildOption(ChannelOption.TCP_NODELAY,
+                    socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_NO_DELAY));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_KEEP_ALIVE)) {
+            putChildOption(ChannelOption.SO_KEEPALIVE,
+                    socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_KEEP_ALIVE));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_SEND_BUFFER_SIZE)) {
+            putChildOption(ChannelOption.SO_SNDBUF,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_SEND_BUFFER_SIZE));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_RECEIVE_BUFFER_SIZE)) {
+            int receiveBufferSize = getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_RECEIVE_BUFFER_SIZE);
+            putChildOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+            // Receive windows larger than 64 KiB must be set on the listening socket to be advertised during
+            // the handshake of the accepted connections
+            putServerOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_LINGER)) {
+            int linger = socketOptions.getIntValue(Constants.SOCKET_OPTIONS_LINGER).intValue();
+            if (linger < 0) {
+                throw new IllegalArgumentException("Socket option `" + Constants.SOCKET_OPTIONS_LINGER.getValue()
+                        + "` must not be negative");
+            }
+            putChildOption(ChannelOption.SO_LINGER, linger);
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_WRITE_BUFFER_WATER_MARK)) {
+            BMap<BString, Object> waterMark = (BMap<BString, Object>) socketOptions
+                    .getMapValue(Constants.SOCKET_OPTIONS_WRITE_BUFFER_WATER_MARK);
+            // WriteBufferWaterMark rejects a low water mark which is higher than the high water mark
+            putChildOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                    getPositiveInt(waterMark, Constants.WRITE_BUFFER_WATER_MARK_LOW),
+                    getPositiveInt(waterMark, Constants.WRITE_BUFFER_WATER_MARK_HIGH)));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_BACKLOG)) {
+            putServerOption(ChannelOption.SO_BACKLOG,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_BACKLOG));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_REUSE_ADDRESS)) {
+            putServerOption(ChannelOption.SO_REUSEADDR,
+                    socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_REUSE_ADDRESS));
+        }
+    }
+
+    // These options are only exposed by the native epoll transport of netty
+    private void setLinuxSocketOptions(BMap<BString, Object> socketOptions, TcpTransport transport) {
+        for (BString option : Constants.LINUX_SOCKET_OPTIONS) {
+            if (socketOptions.containsKey(option) && transport != TcpTransport.EPOLL) {
+                throw new IllegalArgumentException("Socket option `" + option.getValue() + "` is only supported by "
+                        + "the " + TcpTransport.EPOLL + " transport, but the " + transport + " transport is in use");
+            }
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_FAST_OPEN)) {
+            putChildOption(ChannelOption.TCP_FASTOPEN_CONNECT,
+                    socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_FAST_OPEN));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_FAST_OPEN_QUEUE_LENGTH)) {
+            putServerOption(EpollChannelOption.TCP_FASTOPEN,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_FAST_OPEN_QUEUE_LENGTH));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_QUICK_ACK)) {
+            putChildOption(EpollChannelOption.TCP_QUICKACK,
+                    socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_QUICK_ACK));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_CORK)) {
+            putChildOption(EpollChannelOption.TCP_CORK, socketOptions.getBooleanValue(Constants.SOCKET_OPTIONS_CORK));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_USER_TIMEOUT)) {
+            double userTimeoutInSec = ((BDecimal) socketOptions.get(Constants.SOCKET_OPTIONS_USER_TIMEOUT))
+                    .floatValue();
+            if (userTimeoutInSec <= 0 || userTimeoutInSec * 1000 > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Socket option `" + Constants.SOCKET_OPTIONS_USER_TIMEOUT
+                        .getValue() + "` must be a positive number of seconds");
+            }
+            putChildOption(EpollChannelOption.TCP_USER_TIMEOUT, (int) Math.ceil(userTimeoutInSec * 1000));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_KEEP_IDLE)) {
+            putChildOption(EpollChannelOption.TCP_KEEPIDLE,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_KEEP_IDLE));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_KEEP_INTERVAL)) {
+            putChildOption(EpollChannelOption.TCP_KEEPINTVL,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_KEEP_INTERVAL));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_KEEP_COUNT)) {
+            putChildOption(EpollChannelOption.TCP_KEEPCNT,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_KEEP_COUNT));
+        }
+        if (socketOptions.containsKey(Constants.SOCKET_OPTIONS_BUSY_POLL)) {
+            putChildOption(EpollChannelOption.SO_BUSY_POLL,
+                    getPositiveInt(socketOptions, Constants.SOCKET_OPTIONS_BUSY_POLL));
+        }
+    }
+
+    public WriteQueueConfig getWriteQueueConfig() {
+        return writeQueueConfig;
+    }
+
+    public FramingConfig getFramingConfig() {
+        return framingConfig;
+    }
+
+    public int getMaxInFlightOnBytes() {
+        return maxInFlightOnBytes;
+    }
+
+    public long getCallerWriteTimeoutInNanos() {
+        return callerWriteTimeoutInNanos;
+    }
+
+    public ChunkBatchConfig getChunkBatchConfig() {
+        return chunkBatchConfig;
+    }
+
+    public void setClientOptions(Bootstrap bootstrap) {
+        childOptions.forEach(bootstrap::option);
+    }
+
+    public void setListenerOptions(ServerBootstrap bootstrap) {
+        serverOptions.forEach(bootstrap::option);
+        childOptions.forEach(bootstrap::childOption);
+    }
+
+    private <T> void putChildOption(ChannelOption<T> option, T value) {
+        childOptions.put((ChannelOption<Object>) option, value);
+    }
+
+    private <T> void putServerOption(ChannelOption<T> option, T value) {
+        serverOptions.put((ChannelOption<Object>) option, value);
+    }
+
+    private static int getPositiveInt(BMap<BString, Object> map, BString key) {
+        long value = map.getIntValue(key);
+        if (value <= 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("`" + key.getValue() + "` must be a positive integer not greater than "
+                    + Integer.MAX_VALUE);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Allocates heap buffers from the heap arenas of the default pool. The buffers of the socket reads stay off-heap,
+     * as the native transports read only into direct buffers.
+     */
+    private static final class PooledHeapByteBufAllocator extends AbstractByteBufAllocator {
+
+        private PooledHeapByteBufAllocator() {
+            super(false);
+        }
+
+        @Override
+        public ByteBuf ioBuffer() {
+            return PooledByteBufAllocator.DEFAULT.ioBuffer();
+        }
+
+        @Override
+        public ByteBuf ioBuffer(int initialCapacity) {
+            return PooledByteBufAllocator.DEFAULT.ioBuffer(initialCapacity);
+        }
+
+        @Override
+        public ByteBuf ioBuffer(int initialCapacity, int maxCapacity) {
+            return PooledByteBufAllocator.DEFAULT.ioBuffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            return PooledByteBufAllocator.DEFAULT.heapBuffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            return PooledByteBufAllocator.DEFAULT.directBuffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return true;
+        }
+    }
+}
@@ -18,22 +18,23 @@
 
 package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flow.FlowControlHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.timeout.IdleStateHandler;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -44,21 +45,35 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TcpClient {
 
     private Channel channel;
+    private volatile InboundBuffer inboundBuffer;
+    private boolean isPrefetchEnabled;
+    private long inboundHighWaterMark = Constants.INBOUND_BUFFER_HIGH_WATER_MARK;
+    private long inboundLowWaterMark = Constants.INBOUND_BUFFER_LOW_WATER_MARK;
 
-    public TcpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress, EventLoopGroup group,
-                     Future callback, BMap<BString, Object> secureSocket) {
+    public TcpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress, TcpEventLoopGroup group,
+                     TcpTransport transport, TcpChannelOptions channelOptions, Future callback,
+                     BMap<BString, Object> secureSocket) {
         AtomicBoolean isCallbackCompleted = new AtomicBoolean(false);
         Bootstrap clientBootstrap = new Bootstrap();
-        clientBootstrap.group(group)
-                .channel(NioSocketChannel.class)
+        channelOptions.setClientOptions(clientBootstrap);
+        ChannelFuture connectFuture = clientBootstrap.group(group.acquire())
+                .channel(transport.getSocketChannelClass())
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
-                        TcpClientHandler tcpClientHandler = new TcpClientHandler();
+                        TcpClientHandler tcpClientHandler = new TcpClientHandler(channelOptions.getWriteQueueConfig());
+                        FramingConfig framingConfig = channelOptions.getFramingConfig();
+                        if (framingConfig != null) {
+                            framingConfig.addFrameHandlers(ch.pipeline());
+                        }
                         if (secureSocket != null
                                 && secureSocket.getBooleanValue(Constants.SECURESOCKET_CONFIG_ENABLE_SSL)) {
                             setSSLHandler(ch, secureSocket, tcpClientHandler, callback);
                         } else {
+                            if (framingConfig != null) {
+                                // A single read may decode several frames, hence a frame is passed on per read
+                                ch.pipeline().addLast(Constants.FLOW_CONTROL_HANDLER, new FlowControlHandler());
+                            }
                             ch.pipeline().addLast(Constants.CLIENT_HANDLER, tcpClientHandler);
                         }
                     }
@@ -84,8 +99,11 @@ public class TcpClient {
                             callback.complete(Utils.createTcpError("Unable to connect with remote host: "
                                     + channelFuture.cause().getMessage()));
                         }
+                        channelFuture.channel().close();
                     }
                 });
+        // The channel is closed on a failed connect attempt as well, hence the group is released in every case
+        connectFuture.channel().closeFuture().addListener(future -> group.release());
     }
 
     private void setSSLHandler(SocketChannel channel, BMap<BString, Object> secureSocket,
@@ -101,33 +119,99 @@ public class TcpClient {
                 new SslHandshakeClientEventHandler(tcpClientHandler, callback));
     }
 
-    public void writeData(byte[] bytes, Future callback, double writeTimeoutInSec) {
-        AtomicBoolean futureCompleted = new AtomicBoolean(false);
+    public void writeData(ByteBuf data, Future callback, double writeTimeoutInSec) {
+        writeData(new WriteFlowController(data, callback, new AtomicBoolean(false)), callback, writeTimeoutInSec);
+    }
+
+    public void writeFile(File file, long offset, long length, Future callback, double writeTimeoutInSec) {
+        writeData(new FileWriteFlowController(file, offset, length, callback, new AtomicBoolean(false)), callback,
+                writeTimeoutInSec);
+    }
+
+    private void writeData(WriteFlowController writeFlowController, Future callback, double writeTimeoutInSec) {
         long writeTimeoutInNano = (long) (writeTimeoutInSec * 1_000_000_000);
         if (channel.isActive()) {
-            channel.pipeline().addFirst(Constants.WRITE_TIMEOUT_HANDLER, new IdleStateHandler(0, writeTimeoutInNano, 0,
-                    TimeUnit.NANOSECONDS));
-            WriteFlowController writeFlowController = new WriteFlowController(Unpooled.wrappedBuffer(bytes), callback,
-                    futureCompleted);
             TcpClientHandler tcpClientHandler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
-            tcpClientHandler.addWriteFlowControl(writeFlowController);
-            tcpClientHandler.setCallback(callback);
-            tcpClientHandler.setWriteFutureCompleted(futureCompleted);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpClientHandler.getWriteFlowControllers());
-            }
+            // The write completes its own callback, including when the connection is closed before it is written
+            writeFlowController.setWriteTimeout(writeTimeoutInNano);
+            tcpClientHandler.getWriteQueue().add(channel, writeFlowController);
         } else {
             callback.complete(Utils.createTcpError("Socket connection already closed."));
         }
     }
 
+    public long getPendingWriteBytes() {
+        // If channel disconnected already then handler value is null
+        TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
+        return handler != null ? handler.getWriteQueue().getPendingBytes() : 0;
+    }
+
+    public BlockWriter createBlockWriter(double writeTimeoutInSec) {
+        // If channel disconnected already then handler value is null
+        TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
+        if (handler == null || !channel.isActive()) {
+            return null;
+        }
+        return new BlockWriter(channel, handler.getWriteQueue(), (long) (writeTimeoutInSec * 1_000_000_000));
+    }
+
+    public synchronized void enablePrefetch(long highWaterMark, long lowWaterMark) {
+        isPrefetchEnabled = true;
+        inboundHighWaterMark = highWaterMark;
+        inboundLowWaterMark = lowWaterMark;
+    }
+
+    // Starts reading ahead right after connecting if the prefetch is enabled
+    public synchronized boolean startPrefetch() {
+        return !isPrefetchEnabled || startReadingAhead();
+    }
+
+    // Starts reading ahead of the reads of the client, all the later reads are served from the inbound buffer
+    public synchronized boolean startReadingAhead() {
+        if (inboundBuffer != null) {
+            return true;
+        }
+        TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
+        if (handler == null || !channel.isActive()) {
+            return false;
+        }
+        inboundBuffer = new InboundBuffer(channel, inboundHighWaterMark, inboundLowWaterMark);
+        handler.setInboundBuffer(inboundBuffer);
+        inboundBuffer.start();
+        return true;
+    }
+
+    public boolean isReadingAhead() {
+        return inboundBuffer != null;
+    }
+
+    /**
+     * Reads the next block of data from the inbound buffer. The buffer outlives the channel, hence the data read
+     * ahead is still returned after the channel is closed.
+     *
+     * @param env environment of the reading strand
+     * @param isEndAsNil whether the end of the data is returned as nil instead of an error
+     * @param readTimeoutInSec time to wait for data if the inbound buffer is empty
+     * @return the next block, the end of the data or an error, unless the strand waits for the data
+     */
+    public Object readBufferedData(Environment env, boolean isEndAsNil, double readTimeoutInSec) {
+        return inboundBuffer.read(env, isEndAsNil, (long) (readTimeoutInSec * 1_000_000_000));
+    }
+
+    public Object readBufferedDataExactly(Environment env, long length, double readTimeoutInSec) {
+        return inboundBuffer.readExactly(env, length, (long) (readTimeoutInSec * 1_000_000_000));
+    }
+
+    public Object readBufferedDataUntil(Environment env, byte[] delimiter, double readTimeoutInSec) {
+        return inboundBuffer.readUntil(env, delimiter, (long) (readTimeoutInSec * 1_000_000_000));
+    }
+
     public void readData(double readTimeoutInSec, Future callback) {
         long readTimeoutInNano = (long) (readTimeoutInSec * 1_000_000_000);
         if (channel.isActive()) {
-            channel.pipeline().addFirst(Constants.READ_TIMEOUT_HANDLER, new IdleStateHandler(readTimeoutInNano, 0, 0,
-                    TimeUnit.NANOSECONDS));
             TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
             handler.setCallback(callback);
+            handler.getReadDeadline().arm(channel, readTimeoutInNano);
             channel.read();
         } else {
             callback.complete(Utils.createTcpError("Socket connection already closed."));
@@ -20,13 +20,9 @@ package io.ballerina.stdlib.tcp;
 
 import io.ballerina.runtime.api.Future;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.handler.timeout.IdleState;
-import io.netty.handler.timeout.IdleStateEvent;
-
-import java.util.LinkedList;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * {@link TcpClientHandler} is a ChannelInboundHandler implementation for tcp client.
@@ -34,12 +30,32 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     private Future callback;
-    private AtomicBoolean writeFutureCompleted = new AtomicBoolean(false);
     private boolean isCloseTriggered = false;
-    private LinkedList<WriteFlowController> writeFlowControllers = new LinkedList<>();
+    private final WriteQueue writeQueue;
+    private final Deadline readDeadline = new Deadline(this::onReadTimeout);
+    // A single deadline serves all the writes of the channel, the write queue arms it for its oldest write
+    private final Deadline writeDeadline = new Deadline(this::onWriteTimeout);
+    private volatile InboundBuffer inboundBuffer;
+    private Channel channel;
+
+    public TcpClientHandler(WriteQueueConfig writeQueueConfig) {
+        this.writeQueue = new WriteQueue(writeQueueConfig, writeDeadline);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+    }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        readDeadline.disarm();
+        // Fails the writes which are still pending on the closed connection
+        writeQueue.drain(ctx.channel());
+        writeDeadline.disarm();
+        if (inboundBuffer != null) {
+            inboundBuffer.close();
+        }
         if (!isCloseTriggered && callback != null) {
             callback.complete(Utils.createTcpError("Connection closed by the server."));
         }
@@ -48,35 +64,23 @@ public class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
+        if (inboundBuffer != null) {
+            inboundBuffer.add(msg);
+            return;
+        }
+        readDeadline.disarm();
         if (callback != null) {
             callback.complete(Utils.returnReadOnlyBytes(msg));
         }
     }
 
-    @Override
-    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
-        if (event instanceof IdleStateEvent) {
-            IdleStateEvent evt = (IdleStateEvent) event;
-            if (evt.state() == IdleState.READER_IDLE) {
-                // return read timeout error
-                ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-                if (callback != null) {
-                    callback.complete(Utils.createTcpError("Read timed out"));
-                }
-            } else if (evt.state() == IdleState.WRITER_IDLE) {
-                ctx.channel().pipeline().remove(Constants.WRITE_TIMEOUT_HANDLER);
-                if (callback != null && !writeFutureCompleted.get()) {
-                    writeFutureCompleted.set(true);
-                    callback.complete(Utils.createTcpError("Write timed out"));
-                }
-            }
-        }
-    }
-
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
+        if (inboundBuffer != null) {
+            inboundBuffer.fail(Utils.createTcpError(cause.getMessage()));
+            return;
+        }
+        readDeadline.disarm();
         if (callback != null) {
             callback.complete(Utils.createTcpError(cause.getMessage()));
         }
@@ -84,34 +88,38 @@ public class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     @Override
     public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
-        while (writeFlowControllers.size() > 0) {
-            if (ctx.channel().isWritable()) {
-                WriteFlowController writeFlowController = writeFlowControllers.getFirst();
-                if (writeFlowController != null) {
-                    writeFlowController.writeData(ctx.channel(), writeFlowControllers);
-                }
-            }
+        writeQueue.drain(ctx.channel());
+    }
+
+    private void onReadTimeout() {
+        if (callback != null) {
+            callback.complete(Utils.createTcpError("Read timed out"));
         }
     }
 
-    public void setCallback(Future callback) {
-        this.callback = callback;
+    private void onWriteTimeout() {
+        writeQueue.expireWrites(channel);
     }
 
-    public void setWriteFutureCompleted(AtomicBoolean writeFutureCompleted) {
-        this.writeFutureCompleted = writeFutureCompleted;
+    // Once the data is read ahead, all the reads of the channel are served from the inbound buffer
+    public void setInboundBuffer(InboundBuffer inboundBuffer) {
+        this.inboundBuffer = inboundBuffer;
     }
 
-    public void setIsCloseTriggered() {
-        isCloseTriggered = true;
+    public Deadline getReadDeadline() {
+        return readDeadline;
     }
 
-    public void addWriteFlowControl(WriteFlowController writeFlowController) {
-        writeFlowControllers.addLast(writeFlowController);
+    public void setCallback(Future callback) {
+        this.callback = callback;
+    }
+
+    public void setIsCloseTriggered() {
+        isCloseTriggered = true;
     }
 
-    public LinkedList<WriteFlowController> getWriteFlowControllers() {
-        return writeFlowControllers;
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
     }
 }
 
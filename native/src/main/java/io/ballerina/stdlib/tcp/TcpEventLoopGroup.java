@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.EventLoopGroup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link TcpEventLoopGroup} is a reference counted {@link EventLoopGroup}. The event loops are created when the
+ * first channel acquires the group and are shut down once the last channel releases it. A group which lingers stays
+ * up for a while after its last release, hence the short lived clients which follow one another reuse its event loops
+ * instead of starting a group each.
+ */
+public class TcpEventLoopGroup {
+
+    // The channels are closed before their group is released, hence the group does not wait for further tasks
+    private static final long SHUTDOWN_QUIET_PERIOD_IN_MILLIS = 0;
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 15_000;
+
+    private final TcpTransport transport;
+    private final int numberOfThreads;
+    private final long lingerInMillis;
+    private final Consumer<TcpEventLoopGroup> unusedAction;
+    private EventLoopGroup eventLoopGroup;
+    private int referenceCount;
+    // Counts the acquisitions, hence a lingering shutdown is dropped once the group is acquired again
+    private long acquisitions;
+
+    TcpEventLoopGroup(TcpTransport transport, int numberOfThreads) {
+        this(transport, numberOfThreads, 0, group -> { });
+    }
+
+    /**
+     * Creates a group which notifies when it is shut down.
+     *
+     * @param transport the transport of the event loops
+     * @param numberOfThreads the number of event loop threads
+     * @param lingerInMillis the time the group stays up after its last release
+     * @param unusedAction invoked with the group once it is shut down as none of the channels use it anymore
+     */
+    TcpEventLoopGroup(TcpTransport transport, int numberOfThreads, long lingerInMillis,
+                      Consumer<TcpEventLoopGroup> unusedAction) {
+        this.transport = transport;
+        this.numberOfThreads = numberOfThreads;
+        this.lingerInMillis = lingerInMillis;
+        this.unusedAction = unusedAction;
+    }
+
+    public synchronized EventLoopGroup acquire() {
+        acquisitions++;
+        if (referenceCount++ == 0 && eventLoopGroup == null) {
+            eventLoopGroup = transport.createEventLoopGroup(numberOfThreads);
+        }
+        return eventLoopGroup;
+    }
+
+    public synchronized void release() {
+        if (referenceCount == 0) {
+            return;
+        }
+        if (--referenceCount == 0) {
+            if (lingerInMillis > 0) {
+                long releasedAcquisitions = acquisitions;
+                eventLoopGroup.schedule(() -> shutdownIfUnused(releasedAcquisitions), lingerInMillis,
+                        TimeUnit.MILLISECONDS);
+            } else {
+                shutdown();
+            }
+        }
+    }
+
+    public synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    private synchronized void shutdownIfUnused(long releasedAcquisitions) {
+        if (referenceCount == 0 && acquisitions == releasedAcquisitions && eventLoopGroup != null) {
+            shutdown();
+        }
+    }
+
+    private void shutdown() {
+        eventLoopGroup.shutdownGracefully(SHUTDOWN_QUIET_PERIOD_IN_MILLIS, SHUTDOWN_TIMEOUT_IN_MILLIS,
+                TimeUnit.MILLISECONDS);
+        eventLoopGroup = null;
+        unusedAction.accept(this);
+    }
+}
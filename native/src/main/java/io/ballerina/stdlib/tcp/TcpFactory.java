@@ -21,41 +21,110 @@ package io.ballerina.stdlib.tcp;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 
 import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link TcpFactory} creates {@link TcpClient}.
  */
 public class TcpFactory {
 
+    // Time the shared worker group stays up after its last client or listener is closed
+    private static final long SHARED_WORKER_GROUP_LINGER_IN_MILLIS = 1_000;
+
     private static volatile TcpFactory tcpFactory;
-    private final EventLoopGroup bossGroup;
-    private final EventLoopGroup workerGroup;
+    private final int totalNumberOfProcessors;
+    private final Map<TcpTransport, TcpEventLoopGroup> workerGroups = new ConcurrentHashMap<>();
+    private final Map<TcpTransport, Map<String, TcpEventLoopGroup>> namedWorkerGroups = new ConcurrentHashMap<>();
 
+    // Event loops are not created here. They are created on demand when the first client or listener starts.
     private TcpFactory() {
-        int totalNumberOfProcessors = Runtime.getRuntime().availableProcessors();
-        bossGroup = new NioEventLoopGroup(totalNumberOfProcessors);
-        workerGroup = new NioEventLoopGroup(totalNumberOfProcessors * 2);
+        totalNumberOfProcessors = Runtime.getRuntime().availableProcessors();
     }
 
     public static TcpFactory getInstance() {
         if (tcpFactory == null) {
-            tcpFactory = new TcpFactory();
+            synchronized (TcpFactory.class) {
+                if (tcpFactory == null) {
+                    tcpFactory = new TcpFactory();
+                }
+            }
         }
         return tcpFactory;
     }
 
+    /**
+     * Creates a client, which connects to the remote address and completes the callback once it is connected.
+     *
+     * @return the client
+     * @throws IllegalArgumentException if the event loop configuration conflicts with a running named group
+     */
     public TcpClient createTcpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress, Future callback,
-                                     BMap<BString, Object> secureSocket) {
-        return new TcpClient(localAddress, remoteAddress, workerGroup, callback, secureSocket);
+                                     BMap<BString, Object> secureSocket, TcpTransport transport,
+                                     BMap<BString, Object> eventLoopConfig, TcpChannelOptions channelOptions) {
+        return new TcpClient(localAddress, remoteAddress, getWorkerGroup(transport, eventLoopConfig), transport,
+                channelOptions, callback, secureSocket);
     }
 
+    /**
+     * Creates a listener, which binds to the local address and completes the callback once it is bound.
+     *
+     * @return the listener
+     * @throws IllegalArgumentException if the event loop configuration conflicts with a running named group
+     */
     public TcpListener createTcpListener(InetSocketAddress localAddress, Future callback, TcpService tcpService,
-                                         BMap<BString, Object> secureSocket) {
-        return new TcpListener(localAddress, bossGroup, workerGroup, callback, tcpService,
-                secureSocket);
+                                         BMap<BString, Object> secureSocket, TcpTransport transport,
+                                         int bossThreads, int acceptors, BMap<BString, Object> eventLoopConfig,
+                                         TcpChannelOptions channelOptions) {
+        // A server channel is registered with a single event loop, hence the listener owns a boss group which
+        // needs no more than one thread per acceptor
+        TcpEventLoopGroup bossGroup = new TcpEventLoopGroup(transport, Math.max(bossThreads, acceptors));
+        return new TcpListener(localAddress, acceptors, bossGroup, getWorkerGroup(transport, eventLoopConfig),
+                transport, channelOptions, callback, tcpService, secureSocket);
+    }
+
+    /**
+     * Gets the worker group of a client or a listener. Event loops of one transport cannot drive the channels of
+     * another, hence the groups are kept per transport.
+     *
+     * @param transport the transport of the client or the listener
+     * @param eventLoopConfig the event loop configuration of the client or the listener, if any
+     * @return the worker group
+     * @throws IllegalArgumentException if a named group is already running a different number of worker threads
+     */
+    private TcpEventLoopGroup getWorkerGroup(TcpTransport transport, BMap<BString, Object> eventLoopConfig) {
+        if (eventLoopConfig == null) {
+            return getSharedWorkerGroup(transport);
+        }
+        int workerThreads = eventLoopConfig.containsKey(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS) ?
+                eventLoopConfig.getIntValue(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS).intValue() :
+                totalNumberOfProcessors * 2;
+        if (eventLoopConfig.containsKey(Constants.CONFIG_EVENT_LOOP_NAME)) {
+            String name = eventLoopConfig.getStringValue(Constants.CONFIG_EVENT_LOOP_NAME).getValue();
+            Map<String, TcpEventLoopGroup> groups = namedWorkerGroups.computeIfAbsent(transport,
+                    t -> new ConcurrentHashMap<>());
+            // The name is dropped once the group is shut down, hence a later group of the name starts afresh
+            TcpEventLoopGroup group = groups.computeIfAbsent(name, n -> new TcpEventLoopGroup(transport,
+                    workerThreads, 0, unusedGroup -> groups.remove(n, unusedGroup)));
+            if (eventLoopConfig.containsKey(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS)
+                    && group.getNumberOfThreads() != workerThreads) {
+                throw new IllegalArgumentException("Event loop group `" + name + "` runs "
+                        + group.getNumberOfThreads() + " worker threads, but " + workerThreads + " are configured");
+            }
+            return group;
+        }
+        if (eventLoopConfig.containsKey(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS)) {
+            // A group created only for a single client or listener is shut down once it is closed
+            return new TcpEventLoopGroup(transport, workerThreads);
+        }
+        return getSharedWorkerGroup(transport);
+    }
+
+    private TcpEventLoopGroup getSharedWorkerGroup(TcpTransport transport) {
+        return workerGroups.computeIfAbsent(transport,
+                t -> new TcpEventLoopGroup(t, totalNumberOfProcessors * 2, SHARED_WORKER_GROUP_LINGER_IN_MILLIS,
+                        group -> { }));
     }
 }
@@ -22,81 +22,132 @@ import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.ChannelGroupFutureListener;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.flow.FlowControlHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link TcpListener} creates the tcp client and handles all the network operations.
  */
 public class TcpListener {
 
-    private Channel channel;
-    private final EventLoopGroup bossGroup;
-    private final EventLoopGroup workerGroup;
-    private SslContext sslContext;
+    // Server channels of the acceptors bound to the listener port
+    private final ChannelGroup serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final SslContext sslContext;
 
-    public TcpListener(InetSocketAddress localAddress, EventLoopGroup bossGroup, EventLoopGroup workerGroup,
+    public TcpListener(InetSocketAddress localAddress, int acceptors, TcpEventLoopGroup bossGroup,
+                       TcpEventLoopGroup workerGroup, TcpTransport transport, TcpChannelOptions channelOptions,
                        Future callback, TcpService tcpService, BMap<BString, Object> secureSocket) {
-        this.bossGroup = bossGroup;
-        this.workerGroup = workerGroup;
+        // The context is shared by the connections of all the acceptors, hence it is created before any of them is
+        // bound rather than on their boss event loops
+        SslContext serverSslContext = null;
+        String sslContextError = null;
+        if (secureSocket != null) {
+            try {
+                serverSslContext = getSslContext(secureSocket);
+            } catch (Exception e) {
+                sslContextError = e.getMessage();
+            }
+        }
+        this.sslContext = serverSslContext;
+        if (sslContextError != null) {
+            callback.complete(Utils.createTcpError(sslContextError));
+            return;
+        }
+
         AtomicBoolean isCallbackCompleted = new AtomicBoolean(false);
         ServerBootstrap listenerBootstrap = new ServerBootstrap();
+        channelOptions.setListenerOptions(listenerBootstrap);
+        if (acceptors > 1) {
+            // Lets every acceptor bind its own server socket to the port, the kernel then balances the incoming
+            // connections across them
+            listenerBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
 
-        listenerBootstrap.group(this.bossGroup, this.workerGroup)
-                .channel(NioServerSocketChannel.class)
-                .handler(new ChannelInitializer<ServerSocketChannel>() {
-                    @Override
-                    protected void initChannel(ServerSocketChannel channel) throws Exception {
-                        if (secureSocket != null) {
-                            sslContext = getSslContext(secureSocket);
-                        }
-                    }
-
-                    @Override
-                    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-                        callback.complete(Utils.createTcpError(cause.getMessage()));
-                        isCallbackCompleted.set(true);
-                        ctx.close();
-                    }
-                })
+        // Each acceptor holds its own reference to the event loop groups until its server channel is closed
+        EventLoopGroup bossEventLoopGroup = bossGroup.acquire();
+        EventLoopGroup workerEventLoopGroup = workerGroup.acquire();
+        for (int i = 1; i < acceptors; i++) {
+            bossGroup.acquire();
+            workerGroup.acquire();
+        }
+        listenerBootstrap.group(bossEventLoopGroup, workerEventLoopGroup)
+                .channel(transport.getServerSocketChannelClass())
+                .handler(new ServerChannelHandler(callback, isCallbackCompleted, workerGroup))
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel channel) throws Exception {
-                        TcpListenerHandler tcpListenerHandler = new TcpListenerHandler(tcpService);
+                        ConnectionContext connection = ConnectionContext.create(tcpService, channel, channelOptions);
+                        TcpListenerHandler tcpListenerHandler = new TcpListenerHandler(connection,
+                                channelOptions.getWriteQueueConfig());
+                        if (channelOptions.getFramingConfig() != null) {
+                            channelOptions.getFramingConfig().addFrameHandlers(channel.pipeline());
+                        }
                         if (secureSocket != null) {
                             setSslHandler(channel, sslContext, tcpListenerHandler, secureSocket);
                         } else {
+                            // A single read may decode several frames, hence the frames are held back while the
+                            // reads are paused by the in-flight onBytes invocations
+                            channel.pipeline().addLast(Constants.FLOW_CONTROL_HANDLER, new FlowControlHandler());
                             channel.pipeline().addLast(Constants.LISTENER_HANDLER, tcpListenerHandler);
                         }
                     }
-                })
-                .bind(localAddress)
-                .addListener((ChannelFutureListener) channelFuture -> {
-                    if (channelFuture.isSuccess()) {
-                        channel = channelFuture.channel();
-                        callback.complete(null);
-                    } else {
-                        if (!isCallbackCompleted.get()) {
-                            callback.complete(Utils.createTcpError("Error initializing the server."));
-                        }
-                    }
                 });
+
+        // The server channels are registered with the boss event loops in round robin order, hence each acceptor
+        // is served by its own event loop
+        AtomicInteger pendingBinds = new AtomicInteger(acceptors);
+        AtomicBoolean isBindFailed = new AtomicBoolean(false);
+        for (int i = 0; i < acceptors; i++) {
+            ChannelFuture bindFuture = listenerBootstrap.bind(localAddress)
+                    .addListener((ChannelFutureListener) channelFuture -> {
+                        if (channelFuture.isSuccess()) {
+                            serverChannels.add(channelFuture.channel());
+                            if (isBindFailed.get()) {
+                                channelFuture.channel().close();
+                            } else if (pendingBinds.decrementAndGet() == 0
+                                    && isCallbackCompleted.compareAndSet(false, true)) {
+                                callback.complete(null);
+                            }
+                        } else {
+                            isBindFailed.set(true);
+                            if (isCallbackCompleted.compareAndSet(false, true)) {
+                                callback.complete(Utils.createTcpError("Error initializing the server."));
+                            }
+                            channelFuture.channel().close();
+                            serverChannels.close();
+                        }
+                    });
+            bindFuture.channel().closeFuture().addListener(future -> {
+                bossGroup.release();
+                workerGroup.release();
+            });
+        }
     }
 
-    private SslContext getSslContext(BMap<BString, Object> secureSocket) throws Exception {
+    private static SslContext getSslContext(BMap<BString, Object> secureSocket) throws Exception {
         SSLConfig sslConfig = Utils.setSslConfig(secureSocket, new SSLConfig(), true);
 
         SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
@@ -113,38 +164,51 @@ public class TcpListener {
                 new SslHandshakeListenerEventHandler(tcpListenerHandler));
     }
 
-    // Invoke when the caller call writeBytes
-    public static void send(byte[] bytes, Channel channel, Future callback, TcpService tcpService) {
-        if (!tcpService.getIsCallerClosed() && channel.isActive()) {
-            WriteFlowController writeFlowController = new WriteFlowController(Unpooled.wrappedBuffer(bytes), callback,
-                    new AtomicBoolean(false));
+    // Invoke when the caller call writeBytes or writeBytesBatch
+    public static void send(ByteBuf data, Future callback, ConnectionContext connection) {
+        send(new WriteFlowController(data, callback, new AtomicBoolean(false)), callback, connection);
+    }
+
+    // Invoke when the caller call writeFile
+    public static void sendFile(File file, long offset, long length, Future callback,
+                                ConnectionContext connection) {
+        send(new FileWriteFlowController(file, offset, length, callback, new AtomicBoolean(false)), callback,
+                connection);
+    }
+
+    private static void send(WriteFlowController writeFlowController, Future callback,
+                             ConnectionContext connection) {
+        Channel channel = connection.getChannel();
+        if (!connection.isCallerClosed() && channel.isActive()) {
             TcpListenerHandler tcpListenerHandler = (TcpListenerHandler) channel.pipeline()
                     .get(Constants.LISTENER_HANDLER);
-            tcpListenerHandler.addWriteFlowControl(writeFlowController);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpListenerHandler.getWriteFlowControllers());
-            }
+            // A write of a caller is bounded like a write of a client, hence a strand never waits for it forever
+            writeFlowController.setWriteTimeout(connection.getWriteTimeoutInNanos());
+            tcpListenerHandler.getWriteQueue().add(channel, writeFlowController);
         } else {
             callback.complete(Utils.createTcpError("Socket connection already closed."));
         }
     }
 
     // Invoke when the listener onBytes return readonly & byte[]
-    public static void send(byte[] bytes, Channel channel, TcpService tcpService) {
-        if (!tcpService.getIsCallerClosed() && channel.isActive()) {
+    public static void send(byte[] bytes, ConnectionContext connection) {
+        Channel channel = connection.getChannel();
+        if (!connection.isCallerClosed() && channel.isActive()) {
             WriteFlowController writeFlowController = new WriteFlowControllerService(Unpooled.wrappedBuffer(bytes),
-                    tcpService);
+                    connection);
             TcpListenerHandler tcpListenerHandler = (TcpListenerHandler) channel
                     .pipeline().get(Constants.LISTENER_HANDLER);
-            tcpListenerHandler.addWriteFlowControl(writeFlowController);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpListenerHandler.getWriteFlowControllers());
-            }
+            tcpListenerHandler.getWriteQueue().add(channel, writeFlowController);
         } else {
-            Dispatcher.invokeOnError(tcpService, "Socket connection already closed.");
+            Dispatcher.invokeOnError(connection, "Socket connection already closed.");
         }
     }
 
+    public static long getPendingWriteBytes(Channel channel) {
+        TcpListenerHandler tcpListenerHandler = (TcpListenerHandler) channel.pipeline().get(Constants.LISTENER_HANDLER);
+        return tcpListenerHandler != null ? tcpListenerHandler.getWriteQueue().getPendingBytes() : 0;
+    }
+
     // Pause the network read operation until the onConnect method get invoked
     public static void pauseRead(Channel channel) {
         channel.config().setAutoRead(false);
@@ -170,7 +234,7 @@ public class TcpListener {
 
     // Shutdown the server
     public void close(Future callback) {
-        channel.close().addListener((ChannelFutureListener) future -> {
+        serverChannels.close().addListener((ChannelGroupFutureListener) future -> {
             if (future.isSuccess()) {
                 callback.complete(null);
             } else {
@@ -178,4 +242,42 @@ public class TcpListener {
             }
         });
     }
+
+    /**
+     * Fails the listener start on an exception of a server channel. The handler is shared by the server channels of
+     * all the acceptors.
+     *
+     * An accepted connection keeps the worker group alive after the listener is stopped. It acquires the group while
+     * the server channel, which holds a reference of its own, is still open, hence the group is never shut down
+     * before the connection is registered with it.
+     */
+    @ChannelHandler.Sharable
+    private static class ServerChannelHandler extends ChannelInboundHandlerAdapter {
+
+        private final Future callback;
+        private final AtomicBoolean isCallbackCompleted;
+        private final TcpEventLoopGroup workerGroup;
+
+        ServerChannelHandler(Future callback, AtomicBoolean isCallbackCompleted, TcpEventLoopGroup workerGroup) {
+            this.callback = callback;
+            this.isCallbackCompleted = isCallbackCompleted;
+            this.workerGroup = workerGroup;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            // A child which fails to register is closed as well, hence the group is released in every case
+            workerGroup.acquire();
+            ((Channel) msg).closeFuture().addListener(future -> workerGroup.release());
+            ctx.fireChannelRead(msg);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            if (isCallbackCompleted.compareAndSet(false, true)) {
+                callback.complete(Utils.createTcpError(cause.getMessage()));
+            }
+            ctx.close();
+        }
+    }
 }
@@ -22,59 +22,63 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 
-import java.util.LinkedList;
 
 /**
  * {@link TcpListenerHandler} is a ChannelInboundHandler implementation for tcp listener.
  */
 public class TcpListenerHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
-    private final TcpService tcpService;
-    private LinkedList<WriteFlowController> writeFlowControllers = new LinkedList<>();
+    private final ConnectionContext connection;
+    private final WriteQueue writeQueue;
+    // A single deadline serves all the writes of the caller, the write queue arms it for its oldest write
+    private final Deadline writeDeadline = new Deadline(this::onWriteTimeout);
 
-    public TcpListenerHandler(TcpService tcpService) {
-        this.tcpService = tcpService;
+    public TcpListenerHandler(ConnectionContext connection, WriteQueueConfig writeQueueConfig) {
+        this.connection = connection;
+        this.writeQueue = new WriteQueue(writeQueueConfig, writeDeadline);
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // Fails the writes which are still pending on the closed connection
+        writeQueue.drain(ctx.channel());
+        writeDeadline.disarm();
         ctx.channel().close();
-        Dispatcher.invokeOnClose(tcpService);
+        Dispatcher.invokeOnClose(connection);
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-        Dispatcher.invokeRead(tcpService, msg, ctx.channel());
+        Dispatcher.invokeRead(connection, msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        Dispatcher.invokeReadComplete(connection);
+        super.channelReadComplete(ctx);
     }
 
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         TcpListener.pauseRead(ctx.channel());
-        Dispatcher.invokeOnConnect(tcpService, ctx.channel());
+        Dispatcher.invokeOnConnect(connection);
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
-        Dispatcher.invokeOnError(tcpService, cause.getMessage());
+        Dispatcher.invokeOnError(connection, cause.getMessage());
     }
 
     @Override
     public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
-        while (writeFlowControllers.size() > 0) {
-            if (ctx.channel().isWritable()) {
-                WriteFlowController writeFlowController = writeFlowControllers.getFirst();
-                if (writeFlowController != null) {
-                    writeFlowController.writeData(ctx.channel(), writeFlowControllers);
-                }
-            }
-        }
+        writeQueue.drain(ctx.channel());
     }
 
-    public void addWriteFlowControl(WriteFlowController writeFlowController) {
-        writeFlowControllers.addLast(writeFlowController);
+    private void onWriteTimeout() {
+        writeQueue.expireWrites(connection.getChannel());
     }
 
-    public LinkedList<WriteFlowController> getWriteFlowControllers() {
-        return writeFlowControllers;
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
     }
 }
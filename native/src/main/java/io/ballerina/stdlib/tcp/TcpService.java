@@ -22,18 +22,19 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.values.BObject;
 
 /**
- * Represent TcpService which used for invoking service remote methods.
+ * Represent TcpService which used for invoking service remote methods. The state of each connection of the
+ * service is held by its {@link ConnectionContext}.
  */
 public class TcpService {
 
     private final Runtime runtime;
     private final BObject service;
-    private BObject connectionService;
-    private boolean isCallerClosed;
+    private final DispatchTable dispatchTable;
 
     public TcpService(Runtime runtime, BObject service) {
         this.runtime = runtime;
         this.service = service;
+        this.dispatchTable = DispatchTable.of(service.getType());
     }
 
     public Runtime getRuntime() {
@@ -44,19 +45,7 @@ public class TcpService {
         return service;
     }
 
-    public void setConnectionService(BObject connectionService) {
-        this.connectionService = connectionService;
-    }
-
-    public BObject getConnectionService() {
-        return connectionService;
-    }
-
-    public boolean getIsCallerClosed() {
-        return isCallerClosed;
-    }
-
-    public void setIsCallerClosed(boolean callerClosed) {
-        isCallerClosed = callerClosed;
+    public DispatchTable getDispatchTable() {
+        return dispatchTable;
     }
 }
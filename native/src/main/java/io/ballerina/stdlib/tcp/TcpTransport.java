@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TcpTransport} represents the netty transport used by the tcp client and listener channels.
+ */
+public enum TcpTransport {
+
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int numberOfThreads) {
+            return new NioEventLoopGroup(numberOfThreads);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    },
+
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int numberOfThreads) {
+            return new EpollEventLoopGroup(numberOfThreads);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+    },
+
+    // io_uring support is still an incubator module of netty without a stable module name. Hence it is loaded
+    // reflectively, which also keeps it optional at runtime.
+    IO_URING {
+        @Override
+        public boolean isAvailable() {
+            try {
+                return (boolean) loadIoUringClass(IO_URING_CLASS).getMethod("isAvailable").invoke(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.debug("io_uring transport is not available", e);
+                return false;
+            }
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int numberOfThreads) {
+            try {
+                return (EventLoopGroup) loadIoUringClass(IO_URING_EVENT_LOOP_GROUP_CLASS).getConstructor(int.class)
+                        .newInstance(numberOfThreads);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create the io_uring event loop group", e);
+            }
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            try {
+                return loadIoUringClass(IO_URING_SOCKET_CHANNEL_CLASS).asSubclass(SocketChannel.class);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unable to load the io_uring socket channel", e);
+            }
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            try {
+                return loadIoUringClass(IO_URING_SERVER_SOCKET_CHANNEL_CLASS).asSubclass(ServerSocketChannel.class);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unable to load the io_uring server socket channel", e);
+            }
+        }
+    };
+
+    private static final Logger log = LoggerFactory.getLogger(TcpTransport.class);
+
+    private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+    private static final String IO_URING_CLASS = IO_URING_PACKAGE + "IOUring";
+    private static final String IO_URING_EVENT_LOOP_GROUP_CLASS = IO_URING_PACKAGE + "IOUringEventLoopGroup";
+    private static final String IO_URING_SOCKET_CHANNEL_CLASS = IO_URING_PACKAGE + "IOUringSocketChannel";
+    private static final String IO_URING_SERVER_SOCKET_CHANNEL_CLASS = IO_URING_PACKAGE
+            + "IOUringServerSocketChannel";
+
+    public abstract boolean isAvailable();
+
+    public abstract EventLoopGroup createEventLoopGroup(int numberOfThreads);
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    /**
+     * Returns the best transport available on the running platform.
+     *
+     * @return native epoll transport on linux if available, otherwise nio transport
+     */
+    public static TcpTransport getDefault() {
+        return EPOLL.isAvailable() ? EPOLL : NIO;
+    }
+
+    /**
+     * Resolves the transport requested by the given client or listener configuration.
+     *
+     * @param config client or listener configuration
+     * @return the requested transport or the default transport if the requested one is not available
+     */
+    public static TcpTransport fromConfig(BMap<BString, Object> config) {
+        BString transport = config.getStringValue(StringUtils.fromString(Constants.CONFIG_TRANSPORT));
+        if (transport == null || Constants.TRANSPORT_AUTO.equals(transport.getValue())) {
+            return getDefault();
+        }
+        TcpTransport requestedTransport = TcpTransport.valueOf(transport.getValue());
+        if (!requestedTransport.isAvailable()) {
+            log.warn("{} transport is not available on this platform, falling back to {} transport",
+                    requestedTransport, getDefault());
+            return getDefault();
+        }
+        return requestedTransport;
+    }
+
+    private static Class<?> loadIoUringClass(String className) throws ClassNotFoundException {
+        return Class.forName(className, true, TcpTransport.class.getClassLoader());
+    }
+}
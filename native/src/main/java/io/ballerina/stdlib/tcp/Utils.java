@@ -29,8 +29,12 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 
 import java.io.File;
+import java.net.InetSocketAddress;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Represents the util functions of Socket operations.
@@ -48,8 +52,36 @@ public class Utils {
     }
 
     public static BError createTcpError(String errMsg) {
-        return ErrorCreator.createError(getTcpPackage(), Constants.ErrorType.Error.errorType(),
-                StringUtils.fromString(errMsg), null, null);
+        return createTcpError(Constants.ErrorType.Error, errMsg);
+    }
+
+    public static BError createTcpError(Constants.ErrorType errorType, String errMsg) {
+        return ErrorCreator.createError(getTcpPackage(), errorType.errorType(), StringUtils.fromString(errMsg),
+                null, null);
+    }
+
+    public static ByteBuf createBatchBuffer(BArray chunks) {
+        byte[][] byteChunks = new byte[chunks.size()][];
+        for (int i = 0; i < byteChunks.length; i++) {
+            byteChunks[i] = ((BArray) chunks.get(i)).getBytes();
+        }
+        // The chunks are wrapped by a composite heap buffer without being copied. The transport copies the whole
+        // buffer once into a direct buffer when it is written, hence the batch is sent with a single write.
+        return Unpooled.wrappedBuffer(byteChunks);
+    }
+
+    // Returns the number of bytes to be sent from the given offset of the file or else an error
+    public static Object getFileWriteLength(File file, long offset, Object length) {
+        if (!file.isFile() || !file.canRead()) {
+            return createTcpError("Unable to read the file: " + file.getPath());
+        }
+        long fileLength = file.length();
+        long writeLength = length == null ? fileLength - offset : (long) length;
+        if (offset < 0 || writeLength < 0 || offset > fileLength - writeLength) {
+            return createTcpError("Invalid range of the file: offset " + offset + " and length " + writeLength
+                    + " exceed the file size " + fileLength);
+        }
+        return writeLength;
     }
 
     public static BArray returnReadOnlyBytes(ByteBuf buf) {
@@ -171,6 +203,39 @@ public class Utils {
                 Constants.SECURESOCKET_CONFIG_HANDSHAKE_TIMEOUT));
     }
 
+    public static boolean isValidEventLoopConfig(BMap<BString, Object> eventLoopConfig) {
+        return !eventLoopConfig.containsKey(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS)
+                || eventLoopConfig.getIntValue(Constants.CONFIG_EVENT_LOOP_WORKER_THREADS) > 0;
+    }
+
+    public static boolean isValidPrefetchConfig(BMap<BString, Object> prefetchConfig) {
+        long highWaterMark = prefetchConfig.getIntValue(Constants.PREFETCH_HIGH_WATER_MARK);
+        long lowWaterMark = prefetchConfig.getIntValue(Constants.PREFETCH_LOW_WATER_MARK);
+        return highWaterMark > 0 && lowWaterMark >= 0 && lowWaterMark <= highWaterMark;
+    }
+
+    // Returns the textual IP address without looking up the host name
+    public static String getHostAddress(InetSocketAddress address) {
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    /**
+     * Runs the given task on the event loop of the channel. The event loops of a group which is shutting down reject
+     * the tasks, which is expected once the channels of the group are closed.
+     *
+     * @param channel the channel whose event loop runs the task
+     * @param task the task to be run
+     * @return whether the task is accepted by the event loop
+     */
+    public static boolean executeOnEventLoop(Channel channel, Runnable task) {
+        try {
+            channel.eventLoop().execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
     public static long getLongValueOrDefault(BMap<BString, Object> map, BString key) {
         return map.containsKey(key) ? ((BDecimal) map.get(key)).intValue() : 0L;
     }
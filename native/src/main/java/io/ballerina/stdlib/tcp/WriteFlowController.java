@@ -19,12 +19,11 @@
  package io.ballerina.stdlib.tcp;
 
 import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BError;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 
-import java.util.LinkedList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -34,6 +33,8 @@ public class WriteFlowController {
     protected ByteBuf sendBuffer;
     private Future balWriteCallback;
     private AtomicBoolean futureCompleted;
+    private long writeTimeoutInNanos;
+    private long expiryTimeInNanos;
 
     WriteFlowController(ByteBuf buffer, Future callback, AtomicBoolean futureCompleted) {
         this.balWriteCallback = callback;
@@ -45,14 +46,59 @@ public class WriteFlowController {
         this.sendBuffer = buffer;
     }
 
-    public synchronized void writeData(Channel channel, LinkedList<WriteFlowController> writeFlowControllers) {
-        channel.writeAndFlush(sendBuffer).addListener((ChannelFutureListener) future -> {
-            if (channel.pipeline().get(Constants.WRITE_TIMEOUT_HANDLER) != null) {
-                channel.pipeline().remove(Constants.WRITE_TIMEOUT_HANDLER);
-            }
-            completeCallback(future);
-        });
-        writeFlowControllers.remove(this);
+    /**
+     * Sets the timeout of this write, which runs from the time the write is submitted. The queue of the channel tracks
+     * the expiry of the write.
+     *
+     * @param timeoutInNanos the time to wait for the write to complete, the write never times out if this is zero
+     */
+    public void setWriteTimeout(long timeoutInNanos) {
+        writeTimeoutInNanos = timeoutInNanos;
+        expiryTimeInNanos = System.nanoTime() + timeoutInNanos;
+    }
+
+    public boolean hasWriteTimeout() {
+        return writeTimeoutInNanos > 0;
+    }
+
+    public long getExpiryTimeInNanos() {
+        return expiryTimeInNanos;
+    }
+
+    // Invoked by the queue once the write expires. A write which is still queued is dropped, hence the data of a timed
+    // out write is never sent later.
+    public void writeTimedOut(boolean isQueued) {
+        if (isQueued && sendBuffer != null) {
+            sendBuffer.release();
+        }
+        if (!futureCompleted.get()) {
+            futureCompleted.set(true);
+            balWriteCallback.complete(Utils.createTcpError("Write timed out"));
+        }
+    }
+
+    public long getPendingBytes() {
+        return sendBuffer.readableBytes();
+    }
+
+    // The queue which invokes this flushes the written data and notifies the completion of the write
+    public ChannelFuture writeData(Channel channel) {
+        return channel.write(sendBuffer);
+    }
+
+    public void writeCompleted(ChannelFuture future) {
+        completeCallback(future);
+    }
+
+    // Invoke when the write is rejected before it is written to the channel
+    public void fail(BError error) {
+        if (sendBuffer != null) {
+            sendBuffer.release();
+        }
+        if (!futureCompleted.get()) {
+            futureCompleted.set(true);
+            balWriteCallback.complete(error);
+        }
     }
 
     private void completeCallback(ChannelFuture future) {
@@ -18,35 +18,36 @@
 
 package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.values.BError;
 import io.netty.buffer.ByteBuf;
-import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 
-import java.util.LinkedList;
 
 /**
  * WriteFlowControllerService used to dispatch write via channelPipeline.
  */
 public class WriteFlowControllerService extends WriteFlowController {
-    private TcpService tcpService;
+    private ConnectionContext connection;
 
-    public WriteFlowControllerService(ByteBuf buffer, TcpService tcpService) {
+    public WriteFlowControllerService(ByteBuf buffer, ConnectionContext connection) {
         super(buffer);
-        this.tcpService = tcpService;
+        this.connection = connection;
     }
 
     @Override
-    public synchronized void writeData(Channel channel, LinkedList<WriteFlowController> writeFlowControllers) {
-        channel.writeAndFlush(sendBuffer).addListener((ChannelFutureListener) future -> {
-            callDispatch(future);
-        });
-        writeFlowControllers.remove(this);
+    public void writeCompleted(ChannelFuture future) {
+        callDispatch(future);
+    }
+
+    @Override
+    public void fail(BError error) {
+        sendBuffer.release();
+        Dispatcher.invokeOnError(connection, error.getMessage());
     }
 
     private void callDispatch(ChannelFuture future) {
         if (!future.isSuccess()) {
-            Dispatcher.invokeOnError(tcpService, "Failed to send data.");
+            Dispatcher.invokeOnError(connection, "Failed to send data.");
         }
     }
 }
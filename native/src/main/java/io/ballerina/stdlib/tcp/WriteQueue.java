@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.internal.PlatformDependent;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link WriteQueue} holds the pending writes of a channel. Writes can be added from any thread, but the queue is
+ * drained only on the event loop of the channel and only while the channel is writable, the next writability change
+ * resumes it. The writes added within one event loop iteration are flushed together, so that the transport sends
+ * them with as few system calls as possible. The transport copies the heap buffers of the writes into direct buffers,
+ * and a flush sends the direct buffers together with a gathering write.
+ *
+ * The bytes of the accepted writes are counted until they are written to the socket. Writes which exceed the
+ * configured limit either fail or wait until the pending bytes drop to the resume limit, which keeps the strands
+ * producing them waiting as well. A write which times out while it is still queued is removed without being written.
+ *
+ * The writes of a channel share one deadline. The writes with a timeout are tracked in the order they are accepted,
+ * and as they share the write timeout of the connection, the oldest of them always expires first. The deadline is
+ * armed for the oldest write and, once it expires, armed again for the write which is then the oldest, hence the
+ * writes which complete in time do not touch the timer.
+ */
+public class WriteQueue {
+
+    // Limits of the writes that are held back before they are flushed
+    private static final int MAX_UNFLUSHED_BYTES = 64 * 1024;
+    private static final int MAX_UNFLUSHED_WRITES = 256;
+
+    private final WriteQueueConfig config;
+    private final Queue<WriteFlowController> addedWrites = PlatformDependent.newMpscQueue();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean(false);
+    // The following are confined to the event loop of the channel
+    private final Queue<WriteFlowController> acceptedWrites = new ArrayDeque<>();
+    private final Queue<WriteFlowController> waitingWrites = new ArrayDeque<>();
+    private final Queue<WriteFlowController> timedWrites = new ArrayDeque<>();
+    private final Deadline writeDeadline;
+    private volatile long pendingBytes;
+
+    public WriteQueue(WriteQueueConfig config, Deadline writeDeadline) {
+        this.config = config;
+        this.writeDeadline = writeDeadline;
+    }
+
+    public void add(Channel channel, WriteFlowController writeFlowController) {
+        addedWrites.add(writeFlowController);
+        if (isDrainScheduled.compareAndSet(false, true) && !Utils.executeOnEventLoop(channel, () -> {
+            isDrainScheduled.set(false);
+            drain(channel);
+        })) {
+            // The event loop is shut down, hence the writes would never be drained
+            isDrainScheduled.set(false);
+            WriteFlowController addedWrite;
+            while ((addedWrite = addedWrites.poll()) != null) {
+                addedWrite.fail(Utils.createTcpError("Socket connection already closed."));
+            }
+        }
+    }
+
+    public long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    public void drain(Channel channel) {
+        acceptWrites(channel);
+        long unflushedBytes = 0;
+        int unflushedWrites = 0;
+        // Writes on an inactive channel fail immediately, which completes their callbacks with the failure
+        while (!acceptedWrites.isEmpty() && (channel.isWritable() || !channel.isActive())) {
+            WriteFlowController writeFlowController = acceptedWrites.poll();
+            long writeBytes = writeFlowController.getPendingBytes();
+            unflushedBytes += writeBytes;
+            writeFlowController.writeData(channel).addListener((ChannelFutureListener) future -> {
+                pendingBytes -= writeBytes;
+                if (writeFlowController.hasWriteTimeout()) {
+                    untrack(writeFlowController);
+                }
+                writeFlowController.writeCompleted(future);
+                if (!waitingWrites.isEmpty() && pendingBytes <= config.getResumeBytes()) {
+                    drain(channel);
+                }
+            });
+            if (unflushedBytes >= MAX_UNFLUSHED_BYTES || ++unflushedWrites >= MAX_UNFLUSHED_WRITES) {
+                channel.flush();
+                unflushedBytes = 0;
+                unflushedWrites = 0;
+            }
+        }
+        if (unflushedWrites > 0 || unflushedBytes > 0) {
+            channel.flush();
+        }
+    }
+
+    /**
+     * Times out the writes which are past their expiry. Invoked by the write deadline on the event loop of the channel.
+     *
+     * @param channel the channel of the queue
+     */
+    public void expireWrites(Channel channel) {
+        acceptWrites(channel);
+        long now = System.nanoTime();
+        boolean isRemoved = false;
+        WriteFlowController writeFlowController;
+        while ((writeFlowController = timedWrites.peek()) != null
+                && writeFlowController.getExpiryTimeInNanos() - now <= 0) {
+            timedWrites.poll();
+            boolean isQueued = remove(writeFlowController);
+            isRemoved |= isQueued;
+            writeFlowController.writeTimedOut(isQueued);
+        }
+        armWriteDeadline(channel);
+        if (isRemoved) {
+            // The capacity released by the removed writes may let the waiting writes in
+            drain(channel);
+        }
+    }
+
+    // Removes a write which is not yet written to the channel, returns whether the write was still queued
+    private boolean remove(WriteFlowController writeFlowController) {
+        if (waitingWrites.remove(writeFlowController)) {
+            return true;
+        }
+        if (!acceptedWrites.remove(writeFlowController)) {
+            return false;
+        }
+        pendingBytes -= writeFlowController.getPendingBytes();
+        return true;
+    }
+
+    private void track(Channel channel, WriteFlowController writeFlowController) {
+        timedWrites.add(writeFlowController);
+        // An armed deadline expires no later than the oldest write, which then arms it for the next one
+        if (!writeDeadline.isArmed()) {
+            armWriteDeadline(channel);
+        }
+    }
+
+    private void untrack(WriteFlowController writeFlowController) {
+        if (timedWrites.peek() == writeFlowController) {
+            timedWrites.poll();
+        } else {
+            timedWrites.remove(writeFlowController);
+        }
+    }
+
+    private void armWriteDeadline(Channel channel) {
+        WriteFlowController oldestWrite = timedWrites.peek();
+        if (oldestWrite != null) {
+            writeDeadline.arm(channel, Math.max(1, oldestWrite.getExpiryTimeInNanos() - System.nanoTime()));
+        }
+    }
+
+    // Once the channel is closed all the writes are accepted regardless of the limit, so that none is left waiting
+    private void acceptWrites(Channel channel) {
+        boolean isClosed = !channel.isActive();
+        if (!waitingWrites.isEmpty() && (isClosed || pendingBytes <= config.getResumeBytes())) {
+            while (!waitingWrites.isEmpty() && (isClosed || hasCapacity(waitingWrites.peek()))) {
+                accept(waitingWrites.poll());
+            }
+        }
+        WriteFlowController writeFlowController;
+        while ((writeFlowController = addedWrites.poll()) != null) {
+            if (isClosed || (waitingWrites.isEmpty() && hasCapacity(writeFlowController))) {
+                accept(writeFlowController);
+            } else if (config.isFailOnOverflow()) {
+                writeFlowController.fail(Utils.createTcpError(Constants.ErrorType.WriteQueueFullError,
+                        "Pending writes of the connection exceed " + config.getMaxPendingBytes() + " bytes"));
+                continue;
+            } else {
+                // Writes wait in order, hence a write is never accepted ahead of an earlier one
+                waitingWrites.add(writeFlowController);
+            }
+            if (writeFlowController.hasWriteTimeout()) {
+                track(channel, writeFlowController);
+            }
+        }
+    }
+
+    // A single write larger than the limit is accepted once nothing else is pending
+    private boolean hasCapacity(WriteFlowController writeFlowController) {
+        return pendingBytes == 0
+                || pendingBytes + writeFlowController.getPendingBytes() <= config.getMaxPendingBytes();
+    }
+
+    private void accept(WriteFlowController writeFlowController) {
+        pendingBytes += writeFlowController.getPendingBytes();
+        acceptedWrites.add(writeFlowController);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@link WriteQueueConfig} holds the limits of the pending writes of a connection.
+ */
+public class WriteQueueConfig {
+
+    public static final WriteQueueConfig UNBOUNDED = new WriteQueueConfig(Long.MAX_VALUE, Long.MAX_VALUE, false);
+
+    private final long maxPendingBytes;
+    private final long resumeBytes;
+    private final boolean failOnOverflow;
+
+    private WriteQueueConfig(long maxPendingBytes, long resumeBytes, boolean failOnOverflow) {
+        this.maxPendingBytes = maxPendingBytes;
+        this.resumeBytes = resumeBytes;
+        this.failOnOverflow = failOnOverflow;
+    }
+
+    /**
+     * Creates the write queue limits of the given write queue configuration.
+     *
+     * @param config write queue configuration of a client or a listener
+     * @return the write queue limits
+     * @throws IllegalArgumentException if the configured limits are invalid
+     */
+    public static WriteQueueConfig fromConfig(BMap<BString, Object> config) {
+        long maxPendingBytes = config.getIntValue(Constants.WRITE_QUEUE_MAX_PENDING_BYTES);
+        long resumeBytes = config.containsKey(Constants.WRITE_QUEUE_RESUME_BYTES)
+                ? config.getIntValue(Constants.WRITE_QUEUE_RESUME_BYTES) : maxPendingBytes / 2;
+        if (maxPendingBytes <= 0 || resumeBytes < 0 || resumeBytes > maxPendingBytes) {
+            throw new IllegalArgumentException("Write queue limits must satisfy 0 <= resumeWriteBytes <= "
+                    + "maxPendingWriteBytes and maxPendingWriteBytes must be positive");
+        }
+        boolean failOnOverflow = Constants.OVERFLOW_POLICY_FAIL.equals(
+                config.getStringValue(Constants.WRITE_QUEUE_OVERFLOW_POLICY).getValue());
+        return new WriteQueueConfig(maxPendingBytes, resumeBytes, failOnOverflow);
+    }
+
+    public long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    public long getResumeBytes() {
+        return resumeBytes;
+    }
+
+    public boolean isFailOnOverflow() {
+        return failOnOverflow;
+    }
+}
@@ -20,18 +20,27 @@ package io.ballerina.stdlib.tcp.nativeclient;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.tcp.BlockWriter;
 import io.ballerina.stdlib.tcp.Constants;
+import io.ballerina.stdlib.tcp.TcpChannelOptions;
 import io.ballerina.stdlib.tcp.TcpClient;
 import io.ballerina.stdlib.tcp.TcpFactory;
+import io.ballerina.stdlib.tcp.TcpTransport;
+import io.ballerina.stdlib.tcp.Utils;
+import io.netty.buffer.Unpooled;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 
 /**
@@ -65,34 +74,166 @@ public class Client {
         client.addNativeData(Constants.CONFIG_WRITE_TIMEOUT, writeTimeout);
         BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
 
-        TcpClient tcpClient = TcpFactory.getInstance().
-                createTcpClient(localAddress, remoteAddress, balFuture, secureSocket);
+        TcpTransport transport = TcpTransport.fromConfig(config);
+        BMap<BString, Object> eventLoopConfig = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_EVENT_LOOP);
+        if (eventLoopConfig != null && !Utils.isValidEventLoopConfig(eventLoopConfig)) {
+            balFuture.complete(Utils.createTcpError("Number of event loop threads must be a positive integer"));
+            return null;
+        }
+        TcpChannelOptions channelOptions;
+        try {
+            channelOptions = TcpChannelOptions.fromConfig(config, transport);
+        } catch (IllegalArgumentException e) {
+            balFuture.complete(Utils.createTcpError(e.getMessage()));
+            return null;
+        }
+        BMap<BString, Object> prefetch = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_PREFETCH);
+        if (prefetch != null && !Utils.isValidPrefetchConfig(prefetch)) {
+            balFuture.complete(Utils.createTcpError("Prefetch water marks must satisfy 0 <= lowWaterMark <= "
+                    + "highWaterMark and highWaterMark must be positive"));
+            return null;
+        }
+
+        TcpClient tcpClient;
+        try {
+            tcpClient = TcpFactory.getInstance().createTcpClient(localAddress, remoteAddress, balFuture,
+                    secureSocket, transport, eventLoopConfig, channelOptions);
+        } catch (IllegalArgumentException e) {
+            balFuture.complete(Utils.createTcpError(e.getMessage()));
+            return null;
+        }
+        if (prefetch != null) {
+            tcpClient.enablePrefetch(prefetch.getIntValue(Constants.PREFETCH_HIGH_WATER_MARK),
+                    prefetch.getIntValue(Constants.PREFETCH_LOW_WATER_MARK));
+        }
         client.addNativeData(Constants.CLIENT, tcpClient);
 
         return null;
     }
 
-    public static Object externReadBytes(Environment env, BObject client) {
-        final Future balFuture = env.markAsync();
+    public static Object externStartPrefetch(BObject client) {
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        if (!tcpClient.startPrefetch()) {
+            return Utils.createTcpError("Socket connection already closed.");
+        }
+        return null;
+    }
 
+    public static Object externReadBytes(Environment env, BObject client, Object length) {
         double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
         TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        if (length != null) {
+            long readLength = (long) length;
+            if (readLength <= 0 || readLength > Integer.MAX_VALUE) {
+                return Utils.createTcpError("Length must be a positive integer not greater than "
+                        + Integer.MAX_VALUE);
+            }
+            // The data after the given length is kept for the later reads, hence the data is read ahead from now on
+            if (!tcpClient.startReadingAhead()) {
+                return Utils.createTcpError("Socket connection already closed.");
+            }
+            return tcpClient.readBufferedDataExactly(env, readLength, readTimeOut);
+        }
+        if (tcpClient.isReadingAhead()) {
+            return tcpClient.readBufferedData(env, false, readTimeOut);
+        }
+
+        final Future balFuture = env.markAsync();
         tcpClient.readData(readTimeOut, balFuture);
 
         return null;
     }
 
+    public static Object externReadUntil(Environment env, BObject client, BArray delimiter) {
+        if (delimiter.size() == 0) {
+            return Utils.createTcpError("Delimiter must not be empty");
+        }
+        double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        // The data after the delimiter is kept for the later reads, hence the data is read ahead from now on
+        if (!tcpClient.startReadingAhead()) {
+            return Utils.createTcpError("Socket connection already closed.");
+        }
+        return tcpClient.readBufferedDataUntil(env, delimiter.getBytes(), readTimeOut);
+    }
+
+    public static Object externReadBlocksAsStream(BObject client) {
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        if (!tcpClient.startReadingAhead()) {
+            return Utils.createTcpError("Socket connection already closed.");
+        }
+        return null;
+    }
+
+    public static Object externReadBlock(Environment env, BObject client) {
+        double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        if (!tcpClient.isReadingAhead()) {
+            return Utils.createTcpError("Blocks are read only after the stream is created");
+        }
+        return tcpClient.readBufferedData(env, true, readTimeOut);
+    }
+
     public static Object externWriteBytes(Environment env, BObject client, BArray content) {
         final Future balFuture = env.markAsync();
 
         double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
         byte[] byteContent = content.getBytes();
         TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
-        tcpClient.writeData(byteContent, balFuture, writeTimeOut);
+        tcpClient.writeData(Unpooled.wrappedBuffer(byteContent), balFuture, writeTimeOut);
+
+        return null;
+    }
+
+    public static Object externWriteBytesBatch(Environment env, BObject client, BArray chunks) {
+        final Future balFuture = env.markAsync();
+
+        double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        tcpClient.writeData(Utils.createBatchBuffer(chunks), balFuture, writeTimeOut);
+
+        return null;
+    }
+
+    public static Object externWriteFile(Environment env, BObject client, BString path, long offset, Object length) {
+        final Future balFuture = env.markAsync();
+
+        File file = new File(path.getValue());
+        Object writeLength = Utils.getFileWriteLength(file, offset, length);
+        if (writeLength instanceof BError) {
+            balFuture.complete(writeLength);
+            return null;
+        }
+        double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        tcpClient.writeFile(file, offset, (long) writeLength, balFuture, writeTimeOut);
 
         return null;
     }
 
+    public static Object externCreateBlockWriter(BObject client) {
+        double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        BlockWriter blockWriter = tcpClient.createBlockWriter(writeTimeOut);
+        if (blockWriter == null) {
+            return Utils.createTcpError("Socket connection already closed.");
+        }
+        return ValueCreator.createHandleValue(blockWriter);
+    }
+
+    public static Object externWriteBlock(Environment env, BHandle blockWriter, BArray block) {
+        return ((BlockWriter) blockWriter.getValue()).write(env, Unpooled.wrappedBuffer(block.getBytes()));
+    }
+
+    public static Object externFinishBlockWrites(Environment env, BHandle blockWriter) {
+        return ((BlockWriter) blockWriter.getValue()).finish(env);
+    }
+
+    public static long externGetPendingWriteBytes(BObject client) {
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        return tcpClient.getPendingWriteBytes();
+    }
+
     public static Object externClose(Environment env, BObject client) {
         final Future balFuture = env.markAsync();
 
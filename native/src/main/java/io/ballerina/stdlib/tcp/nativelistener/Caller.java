@@ -21,14 +21,21 @@ package io.ballerina.stdlib.tcp.nativelistener;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.tcp.ConnectionContext;
 import io.ballerina.stdlib.tcp.Constants;
 import io.ballerina.stdlib.tcp.Dispatcher;
+import io.ballerina.stdlib.tcp.HostNameResolver;
 import io.ballerina.stdlib.tcp.TcpListener;
-import io.ballerina.stdlib.tcp.TcpService;
 import io.ballerina.stdlib.tcp.Utils;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 
+import java.io.File;
+import java.net.InetSocketAddress;
+
 /**
  * Native implementation of TCP caller.
  */
@@ -37,21 +44,50 @@ public class Caller {
     public static Object externWriteBytes(Environment env, BObject caller, BArray data) {
         final Future callback = env.markAsync();
         byte[] byteContent = data.getBytes();
+        ConnectionContext connection = (ConnectionContext) caller.getNativeData(Constants.CONNECTION_CONTEXT);
+        TcpListener.send(Unpooled.wrappedBuffer(byteContent), callback, connection);
+        return null;
+    }
+
+    public static Object externWriteBytesBatch(Environment env, BObject caller, BArray chunks) {
+        final Future callback = env.markAsync();
+        ConnectionContext connection = (ConnectionContext) caller.getNativeData(Constants.CONNECTION_CONTEXT);
+        TcpListener.send(Utils.createBatchBuffer(chunks), callback, connection);
+        return null;
+    }
+
+    public static Object externWriteFile(Environment env, BObject caller, BString path, long offset, Object length) {
+        final Future callback = env.markAsync();
+        File file = new File(path.getValue());
+        Object writeLength = Utils.getFileWriteLength(file, offset, length);
+        if (writeLength instanceof BError) {
+            callback.complete(writeLength);
+            return null;
+        }
+        ConnectionContext connection = (ConnectionContext) caller.getNativeData(Constants.CONNECTION_CONTEXT);
+        TcpListener.sendFile(file, offset, (long) writeLength, callback, connection);
+        return null;
+    }
+
+    public static long externGetPendingWriteBytes(BObject caller) {
         Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
-        TcpService tcpService = (TcpService) caller.getNativeData(Constants.SERVICE);
-        TcpListener.send(byteContent, channel, callback, tcpService);
+        return TcpListener.getPendingWriteBytes(channel);
+    }
+
+    public static Object externResolveRemoteHostName(Environment env, BObject caller) {
+        InetSocketAddress remoteAddress = (InetSocketAddress) caller.getNativeData(Constants.CALLER_REMOTE_ADDRESS);
+        HostNameResolver.resolve(remoteAddress.getAddress(), env.markAsync());
         return null;
     }
 
     public static Object externClose(Environment env, BObject caller) {
         final Future callback = env.markAsync();
 
-        Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
-        TcpService tcpService = (TcpService) caller.getNativeData(Constants.SERVICE);
-        tcpService.setIsCallerClosed(true);
+        ConnectionContext connection = (ConnectionContext) caller.getNativeData(Constants.CONNECTION_CONTEXT);
+        connection.setCallerClosed();
         try {
-            TcpListener.close(channel, callback);
-            Dispatcher.invokeOnClose(tcpService);
+            TcpListener.close(connection.getChannel(), callback);
+            Dispatcher.invokeOnClose(connection);
         } catch (Exception e) {
             callback.complete(Utils.createTcpError(e.getMessage()));
         }
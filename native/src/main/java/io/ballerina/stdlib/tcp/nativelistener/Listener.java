@@ -25,9 +25,11 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.tcp.Constants;
+import io.ballerina.stdlib.tcp.TcpChannelOptions;
 import io.ballerina.stdlib.tcp.TcpFactory;
 import io.ballerina.stdlib.tcp.TcpListener;
 import io.ballerina.stdlib.tcp.TcpService;
+import io.ballerina.stdlib.tcp.TcpTransport;
 import io.ballerina.stdlib.tcp.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,9 +70,40 @@ public class Listener {
 
         BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
 
+        TcpTransport transport = TcpTransport.fromConfig(config);
+        int bossThreads = config.getIntValue(StringUtils.fromString(Constants.CONFIG_BOSS_THREADS)).intValue();
+        BMap<BString, Object> eventLoopConfig = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_EVENT_LOOP);
+        if (bossThreads <= 0 || (eventLoopConfig != null && !Utils.isValidEventLoopConfig(eventLoopConfig))) {
+            balFuture.complete(Utils.createTcpError("Number of event loop threads must be a positive integer"));
+            return null;
+        }
+        int acceptors = config.getIntValue(StringUtils.fromString(Constants.CONFIG_ACCEPTORS)).intValue();
+        if (acceptors <= 0) {
+            balFuture.complete(Utils.createTcpError("Number of acceptors must be a positive integer"));
+            return null;
+        }
+        if (acceptors > 1 && transport != TcpTransport.EPOLL) {
+            balFuture.complete(Utils.createTcpError("Multiple acceptors are only supported by the "
+                    + TcpTransport.EPOLL + " transport, but the " + transport + " transport is in use"));
+            return null;
+        }
+        TcpChannelOptions channelOptions;
+        try {
+            channelOptions = TcpChannelOptions.fromConfig(config, transport);
+        } catch (IllegalArgumentException e) {
+            balFuture.complete(Utils.createTcpError(e.getMessage()));
+            return null;
+        }
+
         TcpService tcpService = (TcpService) listener.getNativeData(Constants.SERVICE);
-        TcpListener tcpListener = TcpFactory.getInstance()
-                .createTcpListener(localAddress, balFuture, tcpService, secureSocket);
+        TcpListener tcpListener;
+        try {
+            tcpListener = TcpFactory.getInstance().createTcpListener(localAddress, balFuture, tcpService,
+                    secureSocket, transport, bossThreads, acceptors, eventLoopConfig, channelOptions);
+        } catch (IllegalArgumentException e) {
+            balFuture.complete(Utils.createTcpError(e.getMessage()));
+            return null;
+        }
         listener.addNativeData(Constants.LISTENER, tcpListener);
 
         return null;
@@ -26,6 +26,8 @@ module io.ballerina.stdlib.tcp {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.codec;
+    requires io.netty.transport.epoll;
+    requires io.netty.transport.unix.common;
     exports io.ballerina.stdlib.tcp.nativeclient;
     exports io.ballerina.stdlib.tcp.nativelistener;
     exports io.ballerina.stdlib.tcp;